@@ -0,0 +1,400 @@
+package dev.morphia;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+import dev.morphia.aggregation.experimental.Aggregation;
+import dev.morphia.aggregation.experimental.AggregationImpl;
+import dev.morphia.aggregation.experimental.AggregationOptions;
+import dev.morphia.experimental.BaseMorphiaSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Update;
+import dev.morphia.sofia.Sofia;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the operations of a {@link Datastore} on an executor and returns their results as {@link CompletableFuture}s so that independent
+ * operations can be issued together.  Only a limited number of operations run at once.  Those issued beyond that limit wait in the order
+ * they were issued without holding a thread.
+ * <p>
+ * Queries, updates and aggregations are built with the datastore as usual and passed in to be run.  Those built on a
+ * {@link dev.morphia.experimental.MorphiaSession}, or given one through their options, run in that session.  A session's own asynchronous
+ * view runs one operation at a time as sessions must not be used by more than one thread at once, and each of them also counts against the
+ * limit of the view of the datastore the session was started from.  Operations bound to a session are
+ * always handed to that view, whichever view they are passed to.  Those using a {@link ClientSession} that was not started by a
+ * datastore are rejected as there is no such view to run them on.
+ *
+ * @morphia.experimental
+ * @see Datastore#async()
+ * @since 2.3
+ */
+public class AsyncDatastore {
+    /**
+     * The number of operations allowed to run at once by default.  It matches the driver's default connection pool size.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+
+    private final Datastore datastore;
+    private final Executor executor;
+    private final Semaphore permits;
+    @Nullable
+    private final AsyncDatastore parent;
+    private final Queue<Operation<?>> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates an asynchronous view of a datastore using the default executor and limit
+     *
+     * @param datastore the datastore
+     */
+    public AsyncDatastore(Datastore datastore) {
+        this(datastore, DefaultExecutor.INSTANCE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Creates an asynchronous view of a datastore
+     *
+     * @param datastore   the datastore
+     * @param executor    the executor to run operations on
+     * @param maxInFlight the number of operations allowed to run at once
+     */
+    public AsyncDatastore(Datastore datastore, Executor executor, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(Sofia.invalidMaxInFlight(maxInFlight));
+        }
+        this.datastore = datastore;
+        this.executor = executor;
+        permits = new Semaphore(maxInFlight);
+        parent = null;
+    }
+
+    /**
+     * Creates an asynchronous view whose operations are run by another view once they get a permit here.  They count against the limits
+     * of both views.
+     *
+     * @param datastore   the datastore
+     * @param parent      the view to run operations on
+     * @param maxInFlight the number of operations of this view allowed to run at once
+     * @morphia.internal
+     */
+    public AsyncDatastore(Datastore datastore, AsyncDatastore parent, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(Sofia.invalidMaxInFlight(maxInFlight));
+        }
+        this.datastore = datastore;
+        this.parent = parent;
+        executor = parent.getExecutor();
+        permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Runs an aggregation
+     *
+     * @param aggregation the aggregation
+     * @param resultType  the type of the results
+     * @param <R>         the result type
+     * @return the results
+     */
+    public <R> CompletableFuture<List<R>> aggregate(Aggregation<?> aggregation, Class<R> resultType) {
+        return viewFor(bound(aggregation), null).schedule(() -> aggregation.execute(resultType).toList());
+    }
+
+    /**
+     * Runs an aggregation
+     *
+     * @param aggregation the aggregation
+     * @param resultType  the type of the results
+     * @param options     the options to apply
+     * @param <R>         the result type
+     * @return the results
+     */
+    public <R> CompletableFuture<List<R>> aggregate(Aggregation<?> aggregation, Class<R> resultType, AggregationOptions options) {
+        return viewFor(bound(aggregation), options).schedule(() -> aggregation.execute(resultType, options).toList());
+    }
+
+    /**
+     * Counts the documents matched by a query
+     *
+     * @param query the query
+     * @return the count
+     */
+    public CompletableFuture<Long> count(Query<?> query) {
+        return viewFor(query.getDatastore(), null).schedule(query::count);
+    }
+
+    /**
+     * Counts the documents matched by a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @return the count
+     */
+    public CompletableFuture<Long> count(Query<?> query, CountOptions options) {
+        return viewFor(query.getDatastore(), options).schedule(() -> query.count(options));
+    }
+
+    /**
+     * Deletes an entity
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the results
+     */
+    public <T> CompletableFuture<DeleteResult> delete(T entity) {
+        return viewFor(datastore, null).schedule(() -> datastore.delete(entity));
+    }
+
+    /**
+     * Deletes the documents matched by a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the results
+     */
+    public <T> CompletableFuture<DeleteResult> delete(Query<T> query, DeleteOptions options) {
+        return viewFor(query.getDatastore(), options).schedule(() -> query.delete(options));
+    }
+
+    /**
+     * Reads all the results of a query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the results
+     */
+    public <T> CompletableFuture<List<T>> find(Query<T> query) {
+        return find(query, new FindOptions());
+    }
+
+    /**
+     * Reads all the results of a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the results
+     */
+    public <T> CompletableFuture<List<T>> find(Query<T> query, FindOptions options) {
+        return viewFor(query.getDatastore(), options).schedule(() -> query.iterator(options).toList());
+    }
+
+    /**
+     * Reads the first result of a query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the result which is null if nothing matched
+     */
+    public <T> CompletableFuture<T> first(Query<T> query) {
+        return viewFor(query.getDatastore(), null).schedule(query::first);
+    }
+
+    /**
+     * Reads the first result of a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the result which is null if nothing matched
+     */
+    public <T> CompletableFuture<T> first(Query<T> query, FindOptions options) {
+        return viewFor(query.getDatastore(), options).schedule(() -> query.first(options));
+    }
+
+    /**
+     * @return the datastore the operations are run with
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * @return the executor the operations are run on
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Saves an entity
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the saved entity
+     */
+    public <T> CompletableFuture<T> save(T entity) {
+        return viewFor(datastore, null).schedule(() -> datastore.save(entity));
+    }
+
+    /**
+     * Saves an entity
+     *
+     * @param entity  the entity
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the saved entity
+     */
+    public <T> CompletableFuture<T> save(T entity, InsertOneOptions options) {
+        return viewFor(datastore, options).schedule(() -> datastore.save(entity, options));
+    }
+
+    /**
+     * Saves entities
+     *
+     * @param entities the entities
+     * @param options  the options to apply
+     * @param <T>      the entity type
+     * @return the saved entities
+     */
+    public <T> CompletableFuture<List<T>> save(List<T> entities, InsertManyOptions options) {
+        return viewFor(datastore, options).schedule(() -> datastore.save(entities, options));
+    }
+
+    /**
+     * Runs any work against the datastore.  This covers the operations without a dedicated method here.
+     *
+     * @param work the work to run
+     * @param <V>  the result type
+     * @return the result of the work
+     */
+    public <V> CompletableFuture<V> submit(Function<Datastore, V> work) {
+        return viewFor(datastore, null).schedule(() -> work.apply(datastore));
+    }
+
+    /**
+     * Applies an update
+     *
+     * @param update  the update
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the results
+     */
+    public <T> CompletableFuture<UpdateResult> update(Update<T> update, UpdateOptions options) {
+        return viewFor(update.getDatastore(), options).schedule(() -> update.execute(options));
+    }
+
+    @Nullable
+    private static Datastore bound(Aggregation<?> aggregation) {
+        return aggregation instanceof AggregationImpl ? ((AggregationImpl<?>) aggregation).getDatastore() : null;
+    }
+
+    /*
+     * Finds the view an operation has to run on.  Operations bound to a session, through their options or by being built on it, run on
+     * that session's own view so that the session is only ever used by one thread at a time.
+     */
+    private AsyncDatastore viewFor(@Nullable Datastore bound, @Nullable SessionConfigurable<?> options) {
+        ClientSession session = options != null ? options.clientSession() : null;
+        if (session == null && bound instanceof BaseMorphiaSession) {
+            session = (BaseMorphiaSession) bound;
+        }
+        if (session == null) {
+            return this;
+        }
+        if (session instanceof BaseMorphiaSession) {
+            return ((BaseMorphiaSession) session).async();
+        }
+        if (datastore instanceof BaseMorphiaSession && ((BaseMorphiaSession) datastore).getSession() == session) {
+            return ((BaseMorphiaSession) datastore).async();
+        }
+        throw new IllegalArgumentException(Sofia.asyncSessionOperation());
+    }
+
+    private <V> CompletableFuture<V> schedule(Supplier<V> work) {
+        Operation<V> operation = new Operation<>(work);
+        pending.add(operation);
+        drain();
+        return operation.future;
+    }
+
+    /*
+     * Starts waiting operations while there are permits left.  Called whenever an operation is issued or finishes.  Operations of a view
+     * with a parent are handed to the parent, where they wait for one of its permits too.
+     */
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            Operation<?> operation = pending.poll();
+            if (operation == null) {
+                permits.release();
+                continue;
+            }
+            if (parent != null) {
+                parent.schedule(() -> {
+                    operation.run();
+                    return null;
+                }).whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        operation.future.completeExceptionally(e);
+                    }
+                    permits.release();
+                    drain();
+                });
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        operation.run();
+                    } finally {
+                        permits.release();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                operation.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Operation<V> {
+        private final Supplier<V> work;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        Operation(Supplier<V> work) {
+            this.work = work;
+        }
+
+        void run() {
+            try {
+                future.complete(work.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /*
+     * Virtual threads are used when the runtime has them.  Otherwise daemon threads are pooled and started as needed.
+     */
+    private static final class DefaultExecutor {
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "morphia-async-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.morphia;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The results of a {@link BulkWrite}.  The operations of a bulk write may be sent to the server in several batches, e.g. when they target
+ * more than one collection, and the counts here are the totals across all of them.  Operations are identified by the position at which
+ * they were added to the bulk write.
+ *
+ * @since 2.3
+ */
+public class BulkResult {
+    private final List<BulkWriteResult> results = new ArrayList<>();
+    private final Map<Integer, BsonValue> upserts = new TreeMap<>();
+    private boolean acknowledged = true;
+
+    BulkResult() {
+    }
+
+    /**
+     * @return the number of documents deleted
+     * @throws UnsupportedOperationException if the write was unacknowledged
+     */
+    public int getDeletedCount() {
+        return results.stream().mapToInt(BulkWriteResult::getDeletedCount).sum();
+    }
+
+    /**
+     * @return the number of documents inserted, excluding any upserts
+     * @throws UnsupportedOperationException if the write was unacknowledged
+     */
+    public int getInsertedCount() {
+        return results.stream().mapToInt(BulkWriteResult::getInsertedCount).sum();
+    }
+
+    /**
+     * @return the number of documents matched by updates and replacements
+     * @throws UnsupportedOperationException if the write was unacknowledged
+     */
+    public int getMatchedCount() {
+        return results.stream().mapToInt(BulkWriteResult::getMatchedCount).sum();
+    }
+
+    /**
+     * @return the number of documents modified by updates and replacements
+     * @throws UnsupportedOperationException if the write was unacknowledged
+     */
+    public int getModifiedCount() {
+        return results.stream().mapToInt(BulkWriteResult::getModifiedCount).sum();
+    }
+
+    /**
+     * @return the IDs of any upserted documents keyed by the position of the operation which upserted them
+     * @throws UnsupportedOperationException if the write was unacknowledged
+     */
+    public Map<Integer, BsonValue> getUpsertedIds() {
+        if (!acknowledged) {
+            throw new UnsupportedOperationException();
+        }
+        return Collections.unmodifiableMap(upserts);
+    }
+
+    /**
+     * @return the driver results for each batch sent to the server
+     */
+    public List<BulkWriteResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * @return true if the writes were acknowledged
+     */
+    public boolean wasAcknowledged() {
+        return acknowledged;
+    }
+
+    void add(List<Integer> positions, BulkWriteResult result) {
+        results.add(result);
+        acknowledged &= result.wasAcknowledged();
+        if (result.wasAcknowledged()) {
+            for (BulkWriteUpsert upsert : result.getUpserts()) {
+                upserts.put(positions.get(upsert.getIndex()), upsert.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package dev.morphia;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.lang.Nullable;
+import dev.morphia.cache.EntityCaches;
+import dev.morphia.internal.IdentityMap;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.query.Query;
+import dev.morphia.query.Update;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects inserts, saves, updates and deletes to send to the server using as few bulk writes as possible.  Operations on the same
+ * collection are sent together and the driver splits them further as needed to stay within the server's batch limits.
+ * <p>
+ * Operations are identified in the results by the position at which they were added, starting at 0.  The versions of versioned entities
+ * are only incremented once the operations are executed and are restored for every operation which was not written.  A bulk write can
+ * only be executed once.
+ *
+ * @mongodb.driver.manual reference/method/db.collection.bulkWrite/ Bulk Write Operations
+ * @see Datastore#bulk()
+ * @since 2.3
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BulkWrite {
+    private static final Object ANY = new Object();
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final List<Operation> operations = new ArrayList<>();
+    private boolean executed;
+
+    /**
+     * Creates an empty bulk write
+     *
+     * @param datastore the datastore to use
+     * @morphia.internal
+     */
+    public BulkWrite(Datastore datastore) {
+        this.datastore = datastore;
+        mapper = datastore.getMapper();
+    }
+
+    /**
+     * Deletes an entity by its ID
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite delete(T entity) {
+        Object id = mapper.getId(entity);
+        if (id == null) {
+            throw new MappingException(Sofia.missingIdValue(entity.getClass().getName()));
+        }
+        return add(new Operation(datastore.getCollection(entity.getClass()), new DeleteOneModel<>(new Document("_id", id)), id));
+    }
+
+    /**
+     * Deletes the first entity matched by a query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return this
+     */
+    public <T> BulkWrite delete(Query<T> query) {
+        return delete(query, new DeleteOptions());
+    }
+
+    /**
+     * Deletes the entities matched by a query.  Only the first match is deleted unless the options are set to multi.
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return this
+     * @see DeleteOptions#multi(boolean)
+     */
+    public <T> BulkWrite delete(Query<T> query, DeleteOptions options) {
+        Document filter = query.toDocument();
+        return add(new Operation(datastore.getCollection(query.getEntityClass()), options.isMulti()
+                                                                                  ? new DeleteManyModel<>(filter, options)
+                                                                                  : new DeleteOneModel<>(filter, options), ANY));
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite insert(T entity) {
+        return add(new Operation(datastore.getCollection(entity.getClass()), entity, false));
+    }
+
+    /**
+     * Saves an entity.  Entities with an ID are replaced, and inserted if missing, while those without one are inserted.  Versioned
+     * entities are only replaced if their version has not changed.  Otherwise the write fails and the version is restored.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite save(T entity) {
+        // the whole entity is written so any tracked state would be out of date
+        mapper.getChangeTracker().remove(entity);
+        return add(new Operation(datastore.getCollection(entity.getClass()), entity, true));
+    }
+
+    /**
+     * @return the number of operations added
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Applies an update.  The update is applied to the entities matched by its query.
+     *
+     * @param update the update
+     * @param <T>    the entity type
+     * @return this
+     * @see Query#update(dev.morphia.query.experimental.updates.UpdateOperator, dev.morphia.query.experimental.updates.UpdateOperator...)
+     */
+    public <T> BulkWrite update(Update<T> update) {
+        return update(update, new UpdateOptions());
+    }
+
+    /**
+     * Applies an update.  Only the first match is updated unless the options are set to multi.
+     *
+     * @param update  the update
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return this
+     * @see UpdateOptions#multi(boolean)
+     */
+    public <T> BulkWrite update(Update<T> update, UpdateOptions options) {
+        return add(new Operation(update.getCollection(), update.toWriteModel(options), ANY));
+    }
+
+    /**
+     * Executes the operations
+     *
+     * @return the results
+     * @throws BulkWriteException if any of the operations fail
+     * @throws IllegalStateException if this bulk write has already been executed
+     */
+    public BulkResult execute() {
+        return execute(new BulkWriteOptions());
+    }
+
+    /**
+     * Executes the operations
+     *
+     * @param options the options to apply
+     * @return the results
+     * @throws BulkWriteException if any of the operations fail
+     * @throws IllegalStateException if this bulk write has already been executed
+     */
+    public BulkResult execute(BulkWriteOptions options) {
+        if (executed) {
+            throw new IllegalStateException(Sofia.bulkWriteExecuted());
+        }
+        executed = true;
+        ClientSession session = datastore.findSession(options);
+        BulkResult result = new BulkResult();
+        Map<Integer, BulkWriteError> errors = new TreeMap<>();
+        MongoBulkWriteException failure = null;
+        BitSet written = new BitSet(operations.size());
+        IdentityMap identityMap = identityMap(session);
+        try {
+            operations.forEach(operation -> operation.prepare(mapper));
+            List<Batch> batches = batches(options.isOrdered());
+            for (int i = 0; i < batches.size(); i++) {
+                Batch batch = batches.get(i);
+                MongoCollection collection = options.prepare(batch.collection);
+                try {
+                    result.add(batch.positions, session == null
+                                                ? collection.bulkWrite(batch.models, options.getOptions())
+                                                : collection.bulkWrite(session, batch.models, options.getOptions()));
+                    batch.positions.forEach(written::set);
+                } catch (MongoBulkWriteException e) {
+                    failure = e;
+                    result.add(batch.positions, e.getWriteResult());
+                    for (BulkWriteError error : e.getWriteErrors()) {
+                        errors.put(batch.positions.get(error.getIndex()), error);
+                    }
+                    // nothing after the first failure of an ordered write was attempted
+                    int attempted = options.isOrdered() && !e.getWriteErrors().isEmpty()
+                                    ? e.getWriteErrors().get(0).getIndex()
+                                    : batch.positions.size();
+                    for (int index = 0; index < attempted; index++) {
+                        if (!errors.containsKey(batch.positions.get(index))) {
+                            written.set(batch.positions.get(index));
+                        }
+                    }
+                    if (attempted < batch.positions.size()) {
+                        break;
+                    }
+                } finally {
+                    invalidate(batch, identityMap);
+                }
+            }
+        } finally {
+            for (int position = written.nextClearBit(0); position < operations.size(); position = written.nextClearBit(position + 1)) {
+                operations.get(position).rollback();
+            }
+        }
+        if (failure != null) {
+            throw new BulkWriteException(result, errors, failure);
+        }
+        return result;
+    }
+
+    private BulkWrite add(Operation operation) {
+        operations.add(operation);
+        return this;
+    }
+
+    @Nullable
+    private IdentityMap identityMap(@Nullable ClientSession session) {
+        if (session instanceof DatastoreImpl) {
+            return ((DatastoreImpl) session).getIdentityMap();
+        }
+        return datastore instanceof DatastoreImpl ? ((DatastoreImpl) datastore).getIdentityMap() : null;
+    }
+
+    /*
+     * A session only keeps the instance it handed out for a document if that instance is what was written.  Otherwise it may no longer
+     * match the document, or the document may be gone, so the session forgets it.
+     */
+    private void invalidate(Batch batch, @Nullable IdentityMap identityMap) {
+        EntityCaches caches = mapper.getEntityCaches();
+        String collection = batch.namespace.getCollectionName();
+        for (Integer position : batch.positions) {
+            Operation operation = operations.get(position);
+            Object written = operation.written;
+            if (written == ANY) {
+                caches.invalidate(datastore, collection, null);
+                if (identityMap != null) {
+                    identityMap.evict(collection);
+                }
+            } else if (written != null) {
+                caches.invalidate(datastore, collection, written);
+                if (identityMap != null && identityMap.get(collection, written) != operation.entity) {
+                    identityMap.remove(collection, written);
+                }
+            }
+        }
+    }
+
+    /*
+     * Ordered writes can only be combined while consecutive operations target the same collection.
+     */
+    private List<Batch> batches(boolean ordered) {
+        List<Batch> batches = new ArrayList<>();
+        Map<MongoNamespace, Batch> byNamespace = new LinkedHashMap<>();
+        Batch current = null;
+        for (int position = 0; position < operations.size(); position++) {
+            Operation operation = operations.get(position);
+            MongoNamespace namespace = operation.collection.getNamespace();
+            if (ordered) {
+                if (current == null || !current.namespace.equals(namespace)) {
+                    current = new Batch(namespace, operation.collection);
+                    batches.add(current);
+                }
+            } else {
+                current = byNamespace.computeIfAbsent(namespace, n -> new Batch(n, operation.collection));
+            }
+            current.positions.add(position);
+            current.models.add(operation.model);
+        }
+        if (!ordered) {
+            batches.addAll(byNamespace.values());
+        }
+        return batches;
+    }
+
+    private static class Batch {
+        private final MongoNamespace namespace;
+        private final MongoCollection collection;
+        private final List<Integer> positions = new ArrayList<>();
+        private final List<WriteModel> models = new ArrayList<>();
+
+        Batch(MongoNamespace namespace, MongoCollection collection) {
+            this.namespace = namespace;
+            this.collection = collection;
+        }
+    }
+
+    /*
+     * The cached document of an entity is dropped once its write has been sent.  Inserts have nothing to drop while writes by query
+     * drop every cached document of their collection.  The writes of entities are only modelled once their version has been bumped.
+     */
+    private static class Operation {
+        private final MongoCollection collection;
+        @Nullable
+        private final Object entity;
+        private final boolean replace;
+        private WriteModel model;
+        @Nullable
+        private Object written;
+        @Nullable
+        private VersionBump bump;
+
+        Operation(MongoCollection collection, WriteModel model, Object written) {
+            this.collection = collection;
+            this.model = model;
+            this.written = written;
+            entity = null;
+            replace = false;
+        }
+
+        Operation(MongoCollection collection, Object entity, boolean replace) {
+            this.collection = collection;
+            this.entity = entity;
+            this.replace = replace;
+        }
+
+        void prepare(Mapper mapper) {
+            if (entity == null) {
+                return;
+            }
+            Object id = mapper.getId(entity);
+            bump = VersionBump.apply(mapper, entity);
+            if (!replace || id == null || bump.isNew()) {
+                model = new InsertOneModel<>(entity);
+            } else {
+                model = new ReplaceOneModel<>(bump.filter(new Document("_id", id)), entity, new ReplaceOptions().upsert(true));
+                written = id;
+            }
+        }
+
+        void rollback() {
+            if (bump != null) {
+                bump.rollback();
+            }
+        }
+    }
+}
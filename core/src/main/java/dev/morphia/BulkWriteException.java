@@ -0,0 +1,39 @@
+package dev.morphia;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import dev.morphia.sofia.Sofia;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown when any of the operations of a {@link BulkWrite} fail.  Errors are keyed by the position at which the failed operation was added
+ * to the bulk write.  When the bulk write is ordered, no operation after the first failure was attempted.
+ *
+ * @since 2.3
+ */
+public class BulkWriteException extends RuntimeException {
+    private final transient BulkResult result;
+    private final transient Map<Integer, BulkWriteError> errors;
+
+    BulkWriteException(BulkResult result, Map<Integer, BulkWriteError> errors, MongoBulkWriteException cause) {
+        super(Sofia.bulkWriteFailed(errors.size()), cause);
+        this.result = result;
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * @return the failures keyed by the position of the operation which failed
+     */
+    public Map<Integer, BulkWriteError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the results of the writes that were applied
+     */
+    public BulkResult getResult() {
+        return result;
+    }
+}
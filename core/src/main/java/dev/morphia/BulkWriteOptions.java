@@ -0,0 +1,96 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.lang.Nullable;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+/**
+ * The options to apply when executing a {@link BulkWrite}
+ *
+ * @mongodb.driver.manual reference/method/db.collection.bulkWrite/ Bulk Write Operations
+ * @since 2.3
+ */
+public class BulkWriteOptions implements SessionConfigurable<BulkWriteOptions>, WriteConfigurable<BulkWriteOptions> {
+    private final com.mongodb.client.model.BulkWriteOptions options = new com.mongodb.client.model.BulkWriteOptions();
+    private WriteConcern writeConcern;
+    private ClientSession clientSession;
+
+    /**
+     * Creates a new options instance
+     */
+    public BulkWriteOptions() {
+    }
+
+    /**
+     * Sets whether to bypass document validation.
+     *
+     * @param bypassDocumentValidation whether to bypass document validation, or null if unspecified
+     * @return this
+     */
+    public BulkWriteOptions bypassDocumentValidation(@Nullable Boolean bypassDocumentValidation) {
+        options.bypassDocumentValidation(bypassDocumentValidation);
+        return this;
+    }
+
+    @Override
+    public BulkWriteOptions clientSession(@Nullable ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * Gets whether to bypass document validation, or null if unspecified.  The default is null.
+     *
+     * @return whether to bypass document validation, or null if unspecified
+     */
+    @Nullable
+    public Boolean getBypassDocumentValidation() {
+        return options.getBypassDocumentValidation();
+    }
+
+    /**
+     * @return the driver version of this instance
+     */
+    public com.mongodb.client.model.BulkWriteOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return true if the operations are executed in the order they were added
+     */
+    public boolean isOrdered() {
+        return options.isOrdered();
+    }
+
+    /**
+     * If true, the operations are executed in the order they were added and execution stops at the first failed operation.  Otherwise the
+     * server may execute the operations in any order and all of them are attempted.  The default is true.
+     *
+     * @param ordered true if the writes should be ordered
+     * @return this
+     */
+    public BulkWriteOptions ordered(boolean ordered) {
+        options.ordered(ordered);
+        return this;
+    }
+
+    @Override
+    public BulkWriteOptions writeConcern(@Nullable WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
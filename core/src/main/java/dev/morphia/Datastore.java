@@ -21,8 +21,10 @@ import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
@@ -206,6 +208,37 @@ public interface Datastore {
      */
     <T> Query<T> find(String collection);
 
+    /**
+     * Prepares a query on the given type.  The filters are validated and encoded once and any values given using
+     * {@link dev.morphia.query.experimental.filters.Filters#param(String)} are supplied each time the prepared query is bound.
+     *
+     * @param type    the class to use for mapping the results
+     * @param filters the filters to apply
+     * @param <T>     the type to query
+     * @return the prepared query
+     * @since 2.3
+     */
+    <T> PreparedQuery<T> prepare(Class<T> type, Filter... filters);
+
+    /**
+     * Starts a bulk write to collect inserts, saves, updates and deletes to send to the server together.
+     *
+     * @return the new bulk write
+     * @since 2.3
+     */
+    BulkWrite bulk();
+
+    /**
+     * Returns a view of this datastore which runs operations asynchronously.  The view is shared by everything using this datastore so
+     * that the number of operations running at once is limited across all of them.
+     *
+     * @return the asynchronous view
+     * @morphia.experimental
+     * @see AsyncDatastore
+     * @since 2.3
+     */
+    AsyncDatastore async();
+
     /**
      * Deletes the given entities based on the query (first item only).
      *
@@ -382,7 +415,7 @@ public interface Datastore {
      *
      * @param entity the entity to merge back in to the database
      * @param <T>    the type of the entity
-     * @return the new merged entity.  NOTE:  this is a database fetch.
+     * @return the new merged entity as returned by the update
      */
     <T> T merge(T entity);
 
@@ -392,7 +425,7 @@ public interface Datastore {
      * @param entity  the entity to merge back in to the database
      * @param options the options to apply
      * @param <T>     the type of the entity
-     * @return the new merged entity.  NOTE:  this is a database fetch.
+     * @return the new merged entity as returned by the update, or the given entity if {@link InsertOneOptions#reload(boolean)} is false
      * @since 2.0
      */
     <T> T merge(T entity, InsertOneOptions options);
@@ -593,4 +626,12 @@ public interface Datastore {
      * @since 2.0
      */
     <T> T withTransaction(ClientSessionOptions options, MorphiaTransaction<T> transaction);
+
+    /**
+     * Builds the codecs for all the mapped entities ahead of time so that the first operations on each type do not pay for their
+     * creation.  The codecs are built in parallel.
+     *
+     * @since 2.3
+     */
+    void warmUp();
 }
@@ -1,6 +1,7 @@
 package dev.morphia;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.WriteConcern;
@@ -10,6 +11,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.ValidationOptions;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
@@ -24,14 +26,18 @@ import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
+import dev.morphia.internal.ChangeTracker;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.EnumCodecProvider;
+import dev.morphia.mapping.codec.GeneratedCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.LifecycleEncoder;
 import dev.morphia.mapping.codec.pojo.MergingEncoder;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
@@ -39,13 +45,17 @@ import dev.morphia.mapping.codec.pojo.experimental.EntityModelImporter;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.Update;
 import dev.morphia.query.UpdateException;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
@@ -56,6 +66,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +93,7 @@ public class DatastoreImpl implements AdvancedDatastore {
     private final CodecRegistry codecRegistry;
     private final List<MorphiaCodecProvider> morphiaCodecProviders = new ArrayList<>();
     private MongoDatabase database;
+    private volatile AsyncDatastore async;
 
     protected DatastoreImpl(Mapper mapper, MongoClient mongoClient, String dbName) {
         this.database = mongoClient.getDatabase(dbName);
@@ -92,6 +104,10 @@ public class DatastoreImpl implements AdvancedDatastore {
             importModels();
         }
 
+        GeneratedCodecProvider generatedCodecs = new GeneratedCodecProvider(this);
+        if (generatedCodecs.hasCodecs()) {
+            morphiaCodecProviders.add(generatedCodecs);
+        }
         morphiaCodecProviders.add(new MorphiaCodecProvider(this));
 
         CodecRegistry codecRegistry = database.getCodecRegistry();
@@ -137,6 +153,26 @@ public class DatastoreImpl implements AdvancedDatastore {
         return new dev.morphia.aggregation.AggregationPipelineImpl(this, getCollection(source), source);
     }
 
+    @Override
+    public AsyncDatastore async() {
+        AsyncDatastore view = async;
+        if (view == null) {
+            synchronized (this) {
+                view = async;
+                if (view == null) {
+                    view = new AsyncDatastore(this);
+                    async = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    @Override
+    public BulkWrite bulk() {
+        return new BulkWrite(this);
+    }
+
     @Override
     public <T> DeleteResult delete(T entity) {
         return delete(entity, new DeleteOptions().writeConcern(mapper.getWriteConcern(entity.getClass())));
@@ -241,6 +277,11 @@ public class DatastoreImpl implements AdvancedDatastore {
         return queryFactory.createQuery(this, type);
     }
 
+    @Override
+    public <T> PreparedQuery<T> prepare(Class<T> type, Filter... filters) {
+        return new PreparedQuery<>(this, type, filters);
+    }
+
     @Override
     @Nullable
     public ClientSession findSession(SessionConfigurable<?> configurable) {
@@ -254,6 +295,16 @@ public class DatastoreImpl implements AdvancedDatastore {
         return codecRegistry;
     }
 
+    /**
+     * @return the identity map of the session this datastore belongs to or null outside of a session
+     * @morphia.internal
+     * @since 2.3
+     */
+    @Nullable
+    public IdentityMap getIdentityMap() {
+        return null;
+    }
+
     @Override
     public <T> MongoCollection<T> getCollection(Class<T> type) {
         EntityModel entityModel = mapper.getEntityModel(type);
@@ -335,11 +386,13 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new MappingException("Could not get id for " + entity.getClass().getName());
         }
 
-        VersionBumpInfo info = updateVersioning(entity);
+        VersionBump bump = VersionBump.apply(mapper, entity);
+        // the merged entity may differ from the stored document so its next save needs to write all of it
+        mapper.getChangeTracker().remove(entity);
 
         final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
-        if (info.versioned && info.newVersion != -1) {
-            query.filter(eq(info.versionProperty.getMappedName(), info.oldVersion));
+        if (bump.isVersioned()) {
+            query.filter(eq(bump.getProperty().getMappedName(), bump.getOldVersion()));
         }
 
         Update<T> update;
@@ -350,19 +403,32 @@ public class DatastoreImpl implements AdvancedDatastore {
                 (MorphiaCodec) codecRegistry.get(entity.getClass())))
                 .encode(entity);
         }
-        UpdateResult execute = update
-            .execute(new UpdateOptions()
-                .clientSession(findSession(options))
-                .writeConcern(options.writeConcern()));
-        if (execute.getModifiedCount() != 1) {
-            if (info.versioned) {
-                info.rollbackVersion(entity);
+        T merged;
+        boolean updated;
+        if (options.reload()) {
+            merged = update.toModify()
+                           .execute(new ModifyOptions()
+                               .returnDocument(ReturnDocument.AFTER)
+                               .clientSession(findSession(options))
+                               .writeConcern(options.writeConcern()));
+            updated = merged != null;
+        } else {
+            merged = entity;
+            UpdateResult execute = update
+                .execute(new UpdateOptions()
+                    .clientSession(findSession(options))
+                    .writeConcern(options.writeConcern()));
+            updated = execute.getModifiedCount() == 1;
+        }
+        if (!updated) {
+            if (bump.isVersioned()) {
+                bump.rollback();
                 throw new VersionMismatchException(entity.getClass(), id);
             }
             throw new UpdateException("Nothing updated");
         }
 
-        return (T) find(entity.getClass()).filter(eq("_id", id)).iterator(new FindOptions().limit(1)).next();
+        return merged;
     }
 
     @Override
@@ -387,6 +453,7 @@ public class DatastoreImpl implements AdvancedDatastore {
                                 .next();
 
         refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        track(entity);
     }
 
     @Override
@@ -420,12 +487,8 @@ public class DatastoreImpl implements AdvancedDatastore {
             }
         }
 
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-            .bypassDocumentValidation(options.getBypassDocumentValidation())
-            .clientSession(findSession(options))
-            .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
+        if (!list.isEmpty()) {
+            saveAll(list, options);
         }
         return entities;
     }
@@ -452,6 +515,13 @@ public class DatastoreImpl implements AdvancedDatastore {
         return new MorphiaSessionImpl(this, mongoClient.startSession(options));
     }
 
+    @Override
+    public void warmUp() {
+        mapper.getMappedEntities()
+              .parallelStream()
+              .forEach(model -> codecRegistry.get(model.getType()));
+    }
+
     @Override
     public <T> T withTransaction(MorphiaTransaction<T> body) {
         return doTransaction(startSession(), body);
@@ -530,7 +600,7 @@ public class DatastoreImpl implements AdvancedDatastore {
             if (session == null) {
                 throw new IllegalStateException("No session could be found for the transaction.");
             }
-            return session.withTransaction(() -> body.execute(morphiaSession));
+            return morphiaSession.withTransaction(() -> body.execute(morphiaSession));
         }
     }
 
@@ -589,53 +659,159 @@ public class DatastoreImpl implements AdvancedDatastore {
         ClientSession clientSession = findSession(options);
 
         Object id = mapper.findIdProperty(entity.getClass()).getValue(entity);
-        VersionBumpInfo info = updateVersioning(entity);
+        VersionBump bump = VersionBump.apply(mapper, entity);
 
         try {
-            if (id == null || info.versioned && info.newVersion == 1) {
+            if (id == null || bump.isNew()) {
                 if (clientSession == null) {
                     options.prepare(collection).insertOne(entity, options.getOptions());
                 } else {
                     options.prepare(collection).insertOne(clientSession, entity, options.getOptions());
                 }
-            } else {
+                track(entity);
+            } else if (!saveChanges(collection, entity, id, bump, options)) {
                 ReplaceOptions updateOptions = new ReplaceOptions()
                     .bypassDocumentValidation(options.getBypassDocumentValidation())
                     .upsert(true);
-                Document filter = new Document("_id", id);
-                if (info.versioned) {
-                    filter.put(info.versionProperty.getMappedName(), info.oldVersion);
-                }
+                Document filter = bump.filter(new Document("_id", id));
                 UpdateResult updateResult = clientSession == null
                                             ? options.prepare(collection).replaceOne(filter, entity, updateOptions)
                                             : options.prepare(collection).replaceOne(clientSession, filter, entity, updateOptions);
 
-                if (info.versioned && updateResult.getModifiedCount() != 1) {
-                    info.rollbackVersion(entity);
+                if (bump.isVersioned() && updateResult.getModifiedCount() != 1) {
+                    bump.rollback();
                     throw new VersionMismatchException(entity.getClass(), id);
                 }
+                track(entity);
             }
 
         } catch (MongoWriteException e) {
-            if (info.versioned) {
-                info.rollbackVersion(entity);
+            if (bump.isVersioned()) {
+                bump.rollback();
                 throw new VersionMismatchException(entity.getClass(), id);
             }
             throw e;
+        } finally {
+            if (id != null) {
+                mapper.getEntityCaches().invalidate(this, collection.getNamespace().getCollectionName(), id);
+            }
         }
     }
 
-    private <T> VersionBumpInfo updateVersioning(T entity) {
-        final EntityModel entityModel = mapper.getEntityModel(entity.getClass());
-        PropertyModel versionProperty = entityModel.getVersionProperty();
-        if (versionProperty != null) {
-            Long value = (Long) versionProperty.getValue(entity);
-            long updated = value == null ? 1 : value + 1;
-            versionProperty.setValue(entity, updated);
-            return new VersionBumpInfo(versionProperty, value, updated);
+    /*
+     * Writes only the changes since a tracked entity was last loaded or saved.  Returns false if the entity is not tracked, or its
+     * document is gone and it is not versioned, so the whole entity needs to be written instead.
+     */
+    private <T> boolean saveChanges(MongoCollection<T> collection, T entity, Object id, VersionBump bump, InsertOneOptions options) {
+        ChangeTracker tracker = mapper.getChangeTracker();
+        BsonDocument snapshot = mapper.getOptions().isTrackChanges() ? tracker.get(entity) : null;
+        if (snapshot == null) {
+            return false;
+        }
+        Codec<T> codec = (Codec<T>) codecRegistry.get(entity.getClass());
+        if (!(codec instanceof MorphiaCodec)) {
+            return false;
+        }
+        MorphiaCodec<T> morphiaCodec = (MorphiaCodec<T>) codec;
+        // nothing is written, and no lifecycle events run, unless something changed
+        BsonDocument current = morphiaCodec.snapshot(entity);
+        BsonDocument update = ChangeTracker.diff(snapshot, current);
+        if (update.isEmpty()) {
+            return true;
+        }
+        if (morphiaCodec.getEncoder() instanceof LifecycleEncoder) {
+            // the events may change the entity, or its document, further so the changes are taken from what they leave
+            current = new BsonDocument();
+            codec.encode(new BsonDocumentWriter(current), entity, EncoderContext.builder().build());
+            update = ChangeTracker.diff(snapshot, current);
+            if (update.isEmpty()) {
+                tracker.put(entity, current);
+                return true;
+            }
         }
+        Document filter = bump.filter(new Document("_id", id));
+        ClientSession clientSession = findSession(options);
+        UpdateOptions updateOptions = new UpdateOptions()
+            .bypassDocumentValidation(options.getBypassDocumentValidation());
+        UpdateResult result = clientSession == null
+                              ? options.prepare(collection).updateOne(filter, update, updateOptions)
+                              : options.prepare(collection).updateOne(clientSession, filter, update, updateOptions);
+        if (result.getMatchedCount() != 1) {
+            if (bump.isVersioned()) {
+                bump.rollback();
+                throw new VersionMismatchException(entity.getClass(), id);
+            }
+            return false;
+        }
+        tracker.put(entity, current);
+        return true;
+    }
 
-        return new VersionBumpInfo();
+    /*
+     * Saves the entities with an ID or a version in one bulk write.  A versioned entity whose replacement failed, or upserted a document
+     * which had been deleted, is reported as a version mismatch just as it would be when saved on its own.  An ordered write stops at its
+     * first failure so every entity from there on is reported as not persisted.
+     */
+    private <T> void saveAll(List<T> list, InsertManyOptions options) {
+        BulkWrite bulk = new BulkWrite(this);
+        list.forEach(bulk::save);
+        BulkWriteOptions bulkOptions = new BulkWriteOptions()
+            .ordered(options.isOrdered())
+            .bypassDocumentValidation(options.getBypassDocumentValidation())
+            .clientSession(findSession(options))
+            .writeConcern(options.writeConcern());
+
+        BulkResult result;
+        Map<Integer, ?> errors;
+        int unattempted = list.size();
+        BulkWriteException failure = null;
+        try {
+            result = bulk.execute(bulkOptions);
+            errors = Map.of();
+        } catch (BulkWriteException e) {
+            failure = e;
+            result = e.getResult();
+            errors = e.getErrors();
+            // only write errors on versioned entities are version mismatches.  anything else, e.g. a write concern error, is not.
+            if (errors.isEmpty() || e.getCause() instanceof MongoBulkWriteException
+                                    && ((MongoBulkWriteException) e.getCause()).getWriteConcernError() != null) {
+                throw e;
+            }
+            if (options.isOrdered() && !errors.isEmpty()) {
+                unattempted = Collections.min(errors.keySet());
+            }
+            for (Integer position : errors.keySet()) {
+                if (mapper.getEntityModel(list.get(position).getClass()).getVersionProperty() == null) {
+                    throw e;
+                }
+            }
+        }
+
+        List<Object> mismatched = new ArrayList<>();
+        for (int position = 0; position < list.size(); position++) {
+            T entity = list.get(position);
+            if (position >= unattempted || errors.containsKey(position)) {
+                mismatched.add(entity);
+            } else if (result.wasAcknowledged() && result.getUpsertedIds().containsKey(position)) {
+                PropertyModel versionProperty = mapper.getEntityModel(entity.getClass()).getVersionProperty();
+                if (versionProperty != null) {
+                    versionProperty.setValue(entity, (Long) versionProperty.getValue(entity) - 1);
+                    mismatched.add(entity);
+                }
+            }
+        }
+        if (!mismatched.isEmpty()) {
+            throw new VersionMismatchException(mismatched, failure);
+        }
+    }
+
+    private <T> void track(T entity) {
+        if (mapper.getOptions().isTrackChanges()) {
+            Codec<T> codec = (Codec<T>) codecRegistry.get(entity.getClass());
+            if (codec instanceof MorphiaCodec) {
+                ((MorphiaCodec<T>) codec).track(entity);
+            }
+        }
     }
 
     private static class NoDeleteResult extends DeleteResult {
@@ -649,31 +825,4 @@ public class DatastoreImpl implements AdvancedDatastore {
             return 0;
         }
     }
-
-    private static class VersionBumpInfo {
-        private final Long oldVersion;
-        private final boolean versioned;
-        private final Long newVersion;
-        private final PropertyModel versionProperty;
-
-        private VersionBumpInfo() {
-            versioned = false;
-            newVersion = null;
-            oldVersion = null;
-            versionProperty = null;
-        }
-
-        private VersionBumpInfo(PropertyModel versionProperty, @Nullable Long oldVersion, Long newVersion) {
-            versioned = true;
-            this.newVersion = newVersion;
-            this.oldVersion = oldVersion;
-            this.versionProperty = versionProperty;
-        }
-
-        private <T> void rollbackVersion(T entity) {
-            if (versioned) {
-                versionProperty.setValue(entity, oldVersion);
-            }
-        }
-    }
 }
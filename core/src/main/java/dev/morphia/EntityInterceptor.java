@@ -99,4 +99,15 @@ public interface EntityInterceptor {
      */
     default void prePersist(Object ent, Document document, Datastore datastore) {
     }
+
+    /**
+     * Indicates whether this interceptor uses the Document passed to its callbacks.  Interceptors which do not use it are handed a null
+     * Document which lets Morphia write and read entities directly rather than via an intermediate Document.
+     *
+     * @return true if the Document is used.  Defaults to true.
+     * @since 2.3
+     */
+    default boolean usesDocument() {
+        return true;
+    }
 }
@@ -32,6 +32,7 @@ public class InsertOneOptions implements SessionConfigurable<InsertOneOptions>,
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private ClientSession clientSession;
     private boolean unset;
+    private boolean reload = true;
 
     /**
      * Creates a new options wrapper
@@ -48,6 +49,8 @@ public class InsertOneOptions implements SessionConfigurable<InsertOneOptions>,
         this.options = that.options;
         this.writeConcern = that.writeConcern;
         this.clientSession = that.clientSession;
+        this.unset = that.unset;
+        this.reload = that.reload;
     }
 
     /**
@@ -83,6 +86,28 @@ public class InsertOneOptions implements SessionConfigurable<InsertOneOptions>,
         return options.getBypassDocumentValidation();
     }
 
+    /**
+     * Sets whether a merge should return the updated entity as stored in the database.  When false, the entity passed to the merge is
+     * returned and one less document is sent back by the server.  The default is true.
+     *
+     * @param reload true if the merged entity should be reloaded
+     * @return this
+     * @see Datastore#merge(Object, InsertOneOptions)
+     * @since 2.3
+     */
+    public InsertOneOptions reload(boolean reload) {
+        this.reload = reload;
+        return this;
+    }
+
+    /**
+     * @return true if a merge should return the updated entity as stored in the database
+     * @since 2.3
+     */
+    public boolean reload() {
+        return reload;
+    }
+
     /**
      * Applies the rules for storing null/empty values for fields no present in the object to be merged.
      *
@@ -0,0 +1,85 @@
+package dev.morphia;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import java.util.Map;
+
+/**
+ * Tracks the version given to an entity as it is written so that the previous one can be restored if the write fails.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+final class VersionBump {
+    private final Object entity;
+    @Nullable
+    private final PropertyModel property;
+    @Nullable
+    private final Long oldVersion;
+
+    private VersionBump(Object entity, @Nullable PropertyModel property, @Nullable Long oldVersion) {
+        this.entity = entity;
+        this.property = property;
+        this.oldVersion = oldVersion;
+    }
+
+    /**
+     * Increments the version of an entity.  Entities without a version are left as they are.
+     *
+     * @param mapper the mapper to use
+     * @param entity the entity
+     * @return the bump which is unversioned if the entity has no version
+     */
+    static VersionBump apply(Mapper mapper, Object entity) {
+        PropertyModel property = mapper.getEntityModel(entity.getClass()).getVersionProperty();
+        if (property == null) {
+            return new VersionBump(entity, null, null);
+        }
+        Long value = (Long) property.getValue(entity);
+        property.setValue(entity, value == null ? 1 : value + 1);
+        return new VersionBump(entity, property, value);
+    }
+
+    /**
+     * Adds the version the stored document is expected to have to a filter
+     *
+     * @param filter the filter
+     * @param <F>    the filter type
+     * @return the filter
+     */
+    <F extends Map<String, Object>> F filter(F filter) {
+        if (property != null) {
+            filter.put(property.getMappedName(), oldVersion);
+        }
+        return filter;
+    }
+
+    @Nullable
+    Long getOldVersion() {
+        return oldVersion;
+    }
+
+    @Nullable
+    PropertyModel getProperty() {
+        return property;
+    }
+
+    /*
+     * Primitive versions start at 0 so both that and null mark an entity which has never been saved.
+     */
+    boolean isNew() {
+        return property != null && (oldVersion == null || oldVersion == 0);
+    }
+
+    boolean isVersioned() {
+        return property != null;
+    }
+
+    void rollback() {
+        if (property != null) {
+            property.setValue(entity, oldVersion);
+        }
+    }
+}
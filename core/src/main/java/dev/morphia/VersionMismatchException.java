@@ -4,6 +4,7 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.sofia.Sofia;
 
 import java.util.ConcurrentModificationException;
+import java.util.List;
 
 /**
  * This exception is thrown when a version field does not match the expected state in the database.  It's thrown when a versioned entity
@@ -12,6 +13,7 @@ import java.util.ConcurrentModificationException;
  * @since 2.2
  */
 public class VersionMismatchException extends ConcurrentModificationException {
+    private final transient List<Object> entities;
 
     /**
      * Creates a new exception with a message.
@@ -21,5 +23,26 @@ public class VersionMismatchException extends ConcurrentModificationException {
      */
     public VersionMismatchException(Class<?> type, @Nullable Object idValue) {
         super(Sofia.concurrentModification(type.getName(), idValue));
+        entities = List.of();
+    }
+
+    /**
+     * Creates a new exception for the entities of a bulk save which were not persisted.
+     *
+     * @param entities the entities
+     * @param cause    the underlying cause, if any
+     * @since 2.3
+     */
+    public VersionMismatchException(List<?> entities, @Nullable Throwable cause) {
+        super(Sofia.concurrentModifications(entities.size()), cause);
+        this.entities = List.copyOf(entities);
+    }
+
+    /**
+     * @return the entities which were not persisted when saving several entities at once.  Otherwise this list is empty.
+     * @since 2.3
+     */
+    public List<Object> getEntities() {
+        return entities;
     }
 }
@@ -1,11 +1,9 @@
 package dev.morphia.aggregation.experimental;
 
-import com.mongodb.ServerAddress;
-import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.DatastoreImpl;
 import dev.morphia.aggregation.experimental.expressions.Expressions;
 import dev.morphia.aggregation.experimental.expressions.impls.Expression;
 import dev.morphia.aggregation.experimental.stages.AddFields;
@@ -37,21 +35,30 @@ import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.aggregation.experimental.stages.UnionWith;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
 /**
  * @param <T>
  * @morphia.internal
@@ -113,23 +120,19 @@ public class AggregationImpl<T> implements Aggregation<T> {
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType) {
-        MongoCursor<R> cursor;
-        if (datastore.getMapper().isMappable(resultType) && !resultType.equals(this.collection.getDocumentClass())) {
-            MongoCollection<Document> collection = this.collection.withDocumentClass(Document.class);
-            MongoCursor<Document> results = collection.aggregate(getDocuments()).iterator();
-            EntityModel entityModel = datastore.getMapper().getEntityModel(this.collection.getDocumentClass());
-            cursor = new MappingCursor<>(results, datastore.getCodecRegistry().get(resultType),
-                entityModel.getDiscriminatorKey());
-        } else {
-            cursor = collection.aggregate(getDocuments(), resultType).iterator();
-        }
-        return new MorphiaCursor<>(cursor);
+        IdentityMap identityMap = identityMap();
+        MongoCollection<T> results = resultCollection(resultType);
+        // the first batch is read, and decoded, when the cursor is opened
+        return IdentityMap.within(identityMap,
+            () -> new MorphiaCursor<>(results.aggregate(getDocuments(), resultType).iterator(), null, null, identityMap));
     }
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType, AggregationOptions options) {
-        return new MorphiaCursor<>(options.apply(getDocuments(), collection, resultType)
-                                          .iterator());
+        IdentityMap identityMap = identityMap();
+        MongoCollection<T> results = resultCollection(resultType);
+        return IdentityMap.within(identityMap,
+            () -> new MorphiaCursor<>(options.apply(getDocuments(), results, resultType).iterator(), null, null, identityMap));
     }
 
     @Override
@@ -138,6 +141,15 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    /**
+     * @return the datastore this aggregation runs against
+     * @morphia.internal
+     * @since 2.3
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
     @Override
     public Aggregation<T> geoNear(GeoNear near) {
         stages.add(near);
@@ -289,6 +301,25 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    @Nullable
+    private IdentityMap identityMap() {
+        return datastore instanceof DatastoreImpl ? ((DatastoreImpl) datastore).getIdentityMap() : null;
+    }
+
+    /*
+     * Results of another entity type are decoded with that type's codec rather than the source collection's.
+     */
+    private MongoCollection<T> resultCollection(Class<?> resultType) {
+        if (datastore.getMapper().isMappable(resultType) && !resultType.equals(collection.getDocumentClass())) {
+            Codec<?> codec = datastore.getCodecRegistry().get(resultType);
+            if (codec instanceof MorphiaCodec) {
+                return collection.withCodecRegistry(fromRegistries(fromCodecs(new ResultCodec<>((MorphiaCodec<?>) codec)),
+                    datastore.getCodecRegistry()));
+            }
+        }
+        return collection;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private List<Document> getDocuments() {
         return stages.stream()
@@ -301,57 +332,70 @@ public class AggregationImpl<T> implements Aggregation<T> {
                      .collect(Collectors.toList());
     }
 
-    private static class MappingCursor<R> implements MongoCursor<R> {
-        private final MongoCursor<Document> results;
-        private final Codec<R> codec;
-        private final String discriminator;
+    /**
+     * Decodes results straight from the server's response.  A discriminator under the result type's own key is honored when it names a
+     * subtype of the result type.  Any other discriminator, such as one carried over from the source collection's documents, is ignored.
+     * The entities read go through the session's identity map and change tracking just as those read by a query do.
+     */
+    private static class ResultCodec<R> implements Codec<R> {
+        private static final DecoderContext CHECKED = DecoderContext.builder().checkedDiscriminator(true).build();
+        private final MorphiaCodec<R> codec;
+        private final EntityModel model;
 
-        MappingCursor(MongoCursor<Document> results, Codec<R> codec, String discriminator) {
-            this.results = results;
+        ResultCodec(MorphiaCodec<R> codec) {
             this.codec = codec;
-            this.discriminator = discriminator;
+            model = codec.getEntityModel();
         }
 
         @Override
-        public void close() {
-            results.close();
+        public R decode(BsonReader reader, DecoderContext decoderContext) {
+            R entity = codecFor(reader).decode(reader, CHECKED);
+            return entity != null ? codec.loaded(entity) : null;
         }
 
         @Override
-        public boolean hasNext() {
-            return results.hasNext();
+        public void encode(BsonWriter writer, R value, EncoderContext encoderContext) {
+            codec.encode(writer, value, encoderContext);
         }
 
         @Override
-        public R next() {
-            return map(results.next());
-        }
-
-        public int available() {
-            return results.available();
+        public Class<R> getEncoderClass() {
+            return codec.getEncoderClass();
         }
 
-        @Override
-        @Nullable
-        public R tryNext() {
-            return hasNext() ? next() : null;
-        }
-
-        @Override
-        @Nullable
-        public ServerCursor getServerCursor() {
-            return results.getServerCursor();
-        }
-
-        @Override
-        public ServerAddress getServerAddress() {
-            return results.getServerAddress();
-        }
-
-        private R map(Document next) {
-            next.remove(discriminator);
-            return codec.decode(new DocumentReader(next), DecoderContext.builder().build());
+        @SuppressWarnings("unchecked")
+        private MorphiaCodec<R> codecFor(BsonReader reader) {
+            if (!model.useDiscriminator()) {
+                return codec;
+            }
+            String discriminator = null;
+            BsonReaderMark mark = reader.getMark();
+            try {
+                reader.readStartDocument();
+                while (discriminator == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    if (model.getDiscriminatorKey().equals(reader.readName()) && reader.getCurrentBsonType() == BsonType.STRING) {
+                        discriminator = reader.readString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+            } finally {
+                mark.reset();
+            }
+            if (discriminator == null || discriminator.equals(model.getDiscriminator())) {
+                return codec;
+            }
+            Class<?> type;
+            try {
+                type = codec.getDiscriminatorLookup().lookup(discriminator);
+            } catch (CodecConfigurationException e) {
+                return codec;
+            }
+            if (!model.getType().isAssignableFrom(type)) {
+                return codec;
+            }
+            Codec<?> subtype = codec.getRegistry().get(type);
+            return subtype instanceof MorphiaCodec ? (MorphiaCodec<R>) subtype : codec;
         }
     }
-
 }
@@ -0,0 +1,36 @@
+package dev.morphia.annotations.experimental;
+
+import dev.morphia.annotations.internal.MorphiaExperimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose documents should be cached once read by ID.  This suits read-mostly data, e.g. currencies or catalogs, which
+ * is mostly reached through references.  Cached documents are dropped when the entity is written through Morphia.  Changes made by other
+ * means are only seen once an entry expires.
+ *
+ * @morphia.experimental
+ * @see dev.morphia.mapping.MapperOptions.Builder#entityCacheProvider(dev.morphia.cache.EntityCacheProvider)
+ * @since 2.3
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@MorphiaExperimental
+public @interface Cacheable {
+    /**
+     * @return the maximum number of documents to cache
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return the number of seconds a document is cached for or 0 to keep it until it is evicted or invalidated
+     */
+    long ttl() default 0;
+}
@@ -0,0 +1,81 @@
+package dev.morphia.cache;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over entities served from an {@link EntityCache}.  There is no server side cursor behind it.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class CachedCursor<T> implements MongoCursor<T> {
+    private static final ServerAddress ADDRESS = new ServerAddress();
+
+    private final Iterator<T> entities;
+    private int available;
+
+    /**
+     * Creates a cursor over the given entities
+     *
+     * @param entities the entities
+     */
+    public CachedCursor(List<T> entities) {
+        this.entities = entities.iterator();
+        available = entities.size();
+    }
+
+    @Override
+    public void close() {
+        available = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return available > 0 && entities.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        available--;
+        return entities.next();
+    }
+
+    @Override
+    public int available() {
+        return available;
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    /**
+     * @return the default server address as the results were not read from a server
+     */
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return ADDRESS;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.morphia.cache;
+
+import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+
+/**
+ * Stores the documents of a cached entity type keyed by their stored {@code _id} value.  Documents are cached in their raw form and decoded
+ * each time they are read so that callers never share entity instances.  Implementations must be thread safe.
+ *
+ * @morphia.experimental
+ * @see EntityCacheProvider
+ * @since 2.3
+ */
+public interface EntityCache {
+    /**
+     * @param id the ID
+     * @return the cached document or null if it is not cached
+     */
+    @Nullable
+    RawBsonDocument get(Object id);
+
+    /**
+     * Removes a document
+     *
+     * @param id the ID
+     */
+    void invalidate(Object id);
+
+    /**
+     * Removes every document
+     */
+    void invalidateAll();
+
+    /**
+     * Caches a document
+     *
+     * @param id       the ID
+     * @param document the document
+     */
+    void put(Object id, RawBsonDocument document);
+
+    /**
+     * @return the number of documents cached
+     */
+    long size();
+}
@@ -0,0 +1,24 @@
+package dev.morphia.cache;
+
+import dev.morphia.annotations.experimental.Cacheable;
+
+/**
+ * Creates the caches for entities annotated with {@link Cacheable}.  A cache is created for each collection of such entities the first
+ * time it is read from.  The default provider creates an {@link LruEntityCache}.  Another provider can be configured to store documents
+ * elsewhere.
+ *
+ * @morphia.experimental
+ * @see dev.morphia.mapping.MapperOptions.Builder#entityCacheProvider(EntityCacheProvider)
+ * @since 2.3
+ */
+@FunctionalInterface
+public interface EntityCacheProvider {
+    /**
+     * Creates a cache
+     *
+     * @param type      the entity type
+     * @param cacheable the cache settings of the type
+     * @return the new cache
+     */
+    EntityCache create(Class<?> type, Cacheable cacheable);
+}
@@ -0,0 +1,204 @@
+package dev.morphia.cache;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.experimental.Cacheable;
+import dev.morphia.experimental.BaseMorphiaSession;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt64;
+import org.bson.BsonNumber;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the caches of the {@link Cacheable} entities keyed by collection name and serves lookups by ID from them.  Documents are cached
+ * by their stored {@code _id} value so that an ID given in a query finds the document whatever Java type it was given as.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class EntityCaches {
+    private final EntityCacheProvider provider;
+    private final Map<String, EntityCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty set of caches
+     *
+     * @param provider the provider to create caches with
+     */
+    public EntityCaches(EntityCacheProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Converts an ID to the key its document is cached under.  The server matches numbers by value whatever their type so integral
+     * numbers all share one key.
+     *
+     * @param registry the codec registry to encode the ID with
+     * @param id       the ID
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    public static BsonValue key(CodecRegistry registry, Object id) {
+        BsonValue value;
+        if (id instanceof BsonValue) {
+            value = (BsonValue) id;
+        } else {
+            BsonDocument document = new BsonDocument();
+            BsonDocumentWriter writer = new BsonDocumentWriter(document);
+            writer.writeStartDocument();
+            writer.writeName("_id");
+            ((Codec<Object>) registry.get(id.getClass())).encode(writer, id, EncoderContext.builder().build());
+            writer.writeEndDocument();
+            value = document.get("_id");
+        }
+        return normalize(value);
+    }
+
+    /**
+     * Finds entities by ID.  Cached documents are decoded while the rest are read from the database in one query and then cached.
+     *
+     * @param datastore  the datastore
+     * @param cache      the cache to use
+     * @param collection the collection name
+     * @param type       the entity type
+     * @param ids        the IDs
+     * @param <T>        the entity type
+     * @return the entities found in the order of their IDs
+     */
+    public <T> List<T> find(Datastore datastore, EntityCache cache, String collection, Class<T> type, Collection<?> ids) {
+        Codec<T> codec = datastore.getCodecRegistry().get(type);
+        Set<BsonValue> keys = new LinkedHashSet<>();
+        for (Object id : ids) {
+            keys.add(key(datastore.getCodecRegistry(), id));
+        }
+        Map<BsonValue, T> found = new HashMap<>();
+        List<BsonValue> missing = new ArrayList<>();
+        for (BsonValue key : keys) {
+            RawBsonDocument document = cache.get(key);
+            if (document != null) {
+                found.put(key, decode(codec, document));
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            AtomicLong generation = generation(collection);
+            long read = generation.get();
+            BsonDocument filter = new BsonDocument("_id", new BsonDocument("$in", new BsonArray(missing)));
+            try (MongoCursor<RawBsonDocument> cursor = datastore.getDatabase()
+                                                                .getCollection(collection, RawBsonDocument.class)
+                                                                .withCodecRegistry(datastore.getCodecRegistry())
+                                                                .find(filter)
+                                                                .iterator()) {
+                while (cursor.hasNext()) {
+                    RawBsonDocument document = cursor.next();
+                    BsonValue key = normalize(document.get("_id"));
+                    cache.put(key, document);
+                    // a write dropped documents of this collection since the read so this copy might already be out of date
+                    if (generation.get() != read) {
+                        cache.invalidate(key);
+                    }
+                    found.put(key, decode(codec, document));
+                }
+            }
+        }
+        List<T> entities = new ArrayList<>();
+        for (BsonValue key : keys) {
+            T entity = found.get(key);
+            // documents of other subtypes stored in the same collection are not what was asked for
+            if (type.isInstance(entity)) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * @param model      the entity model
+     * @param collection the collection name
+     * @return the cache for the collection or null if the entity is not cacheable
+     */
+    @Nullable
+    public EntityCache get(EntityModel model, String collection) {
+        Cacheable cacheable = model.getAnnotation(Cacheable.class);
+        if (cacheable == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(collection, c -> provider.create(model.getType(), cacheable));
+    }
+
+    /**
+     * Drops a document after it was written.  A write made in a transaction is dropped again once the transaction ends as documents read
+     * by others before then still hold the values from before the transaction.
+     *
+     * @param datastore  the datastore the write was made with
+     * @param collection the collection name
+     * @param id         the ID or null if any document of the collection might have been written
+     */
+    public void invalidate(Datastore datastore, String collection, @Nullable Object id) {
+        boolean transaction = datastore instanceof BaseMorphiaSession && ((BaseMorphiaSession) datastore).hasActiveTransaction();
+        // with no cache for the collection there is nothing to drop, and no read can be filling one as reads create their cache first
+        if (!transaction && caches.get(collection) == null) {
+            return;
+        }
+        BsonValue key = id != null ? key(datastore.getCodecRegistry(), id) : null;
+        drop(collection, key);
+        if (transaction) {
+            ((BaseMorphiaSession) datastore).afterTransaction(() -> drop(collection, key));
+        }
+    }
+
+    /*
+     * The generation moves before the documents are dropped so that a read which started earlier sees it change once it has cached what
+     * it read.
+     */
+    private void drop(String collection, @Nullable BsonValue key) {
+        generation(collection).incrementAndGet();
+        EntityCache cache = caches.get(collection);
+        if (cache != null) {
+            if (key != null) {
+                cache.invalidate(key);
+            } else {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    private AtomicLong generation(String collection) {
+        return generations.computeIfAbsent(collection, c -> new AtomicLong());
+    }
+
+    private static BsonValue normalize(BsonValue value) {
+        if (value.isNumber()) {
+            BsonNumber number = value.asNumber();
+            if (!value.isDouble() || number.doubleValue() == number.longValue()) {
+                return new BsonInt64(number.longValue());
+            }
+        }
+        return value;
+    }
+
+    private static <T> T decode(Codec<T> codec, RawBsonDocument document) {
+        return codec.decode(document.asBsonReader(), DecoderContext.builder().build());
+    }
+}
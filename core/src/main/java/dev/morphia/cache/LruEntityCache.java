@@ -0,0 +1,90 @@
+package dev.morphia.cache;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.annotations.experimental.Cacheable;
+import org.bson.RawBsonDocument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in memory cache which evicts the least recently used document once it is full.  Expired documents are dropped as they are read.
+ *
+ * @morphia.experimental
+ * @since 2.3
+ */
+public class LruEntityCache implements EntityCache {
+    private final Map<Object, Entry> entries;
+    private final long ttl;
+
+    /**
+     * Creates a cache
+     *
+     * @param maxSize the maximum number of documents to cache
+     * @param ttl     the time in milliseconds a document is cached for or 0 to keep it until it is evicted or invalidated
+     */
+    public LruEntityCache(int maxSize, long ttl) {
+        this.ttl = ttl;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param type      the entity type
+     * @param cacheable the cache settings
+     */
+    public LruEntityCache(Class<?> type, Cacheable cacheable) {
+        this(cacheable.maxSize(), TimeUnit.SECONDS.toMillis(cacheable.ttl()));
+    }
+
+    @Override
+    @Nullable
+    public synchronized RawBsonDocument get(Object id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expires != 0 && entry.expires < System.currentTimeMillis()) {
+            entries.remove(id);
+            return null;
+        }
+        return entry.document;
+    }
+
+    @Override
+    public synchronized void invalidate(Object id) {
+        entries.remove(id);
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized void put(Object id, RawBsonDocument document) {
+        entries.put(id, new Entry(document, ttl == 0 ? 0 : System.currentTimeMillis() + ttl));
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final RawBsonDocument document;
+        private final long expires;
+
+        Entry(RawBsonDocument document, long expires) {
+            this.document = document;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Support for caching the documents of entities annotated with {@link dev.morphia.annotations.experimental.Cacheable}.
+ *
+ * @morphia.experimental
+ */
+@NonNullApi
+package dev.morphia.cache;
+
+import com.mongodb.lang.NonNullApi;
@@ -8,21 +8,76 @@ import com.mongodb.client.TransactionBody;
 import com.mongodb.lang.NonNull;
 import com.mongodb.lang.Nullable;
 import com.mongodb.session.ServerSession;
+import dev.morphia.AsyncDatastore;
 import dev.morphia.DatastoreImpl;
+import dev.morphia.internal.IdentityMap;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * @morphia.internal
  * @morphia.experimental
  */
 public abstract class BaseMorphiaSession extends DatastoreImpl implements MorphiaSession {
     private final ClientSession session;
+    private final IdentityMap identityMap = new IdentityMap();
+    private final AsyncDatastore async;
+    private final Queue<Runnable> afterTransaction = new ConcurrentLinkedQueue<>();
 
     BaseMorphiaSession(DatastoreImpl datastore,
                        ClientSession session) {
         super(datastore);
         this.session = session;
+        async = new AsyncDatastore(this, datastore.async(), 1);
+    }
+
+    /**
+     * Runs the operations of this session one at a time in the order they were issued as a session must not be used by more than one
+     * thread at once.  Each of them also takes a permit from the asynchronous view of the datastore the session was started from.
+     *
+     * @return the asynchronous view of this session
+     */
+    @Override
+    public AsyncDatastore async() {
+        return async;
+    }
+
+    @Override
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    @Override
+    public void evict(Object entity) {
+        String collection = getMapper().getEntityModel(entity.getClass()).getCollectionName();
+        Object id = getMapper().getId(entity);
+        if (collection != null && id != null && identityMap.get(collection, id) == entity) {
+            identityMap.remove(collection, id);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        identityMap.clear();
+    }
+
+    void remember(Object entity) {
+        String collection = getMapper().getEntityModel(entity.getClass()).getCollectionName();
+        Object id = getMapper().getId(entity);
+        if (collection != null && id != null) {
+            identityMap.put(collection, id, entity);
+        }
+    }
+
+    void forget(Object entity) {
+        String collection = getMapper().getEntityModel(entity.getClass()).getCollectionName();
+        Object id = getMapper().getId(entity);
+        if (collection != null && id != null) {
+            identityMap.remove(collection, id);
+        }
     }
 
     @Override
@@ -58,22 +113,58 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
 
     @Override
     public void commitTransaction() {
-        session.commitTransaction();
+        try {
+            session.commitTransaction();
+        } finally {
+            endTransaction();
+        }
     }
 
     @Override
     public void abortTransaction() {
-        session.abortTransaction();
+        try {
+            session.abortTransaction();
+        } finally {
+            endTransaction();
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody) {
-        return session.withTransaction(transactionBody);
+        try {
+            return session.withTransaction(transactionBody);
+        } finally {
+            endTransaction();
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody, TransactionOptions options) {
-        return session.withTransaction(transactionBody, options);
+        try {
+            return session.withTransaction(transactionBody, options);
+        } finally {
+            endTransaction();
+        }
+    }
+
+    /**
+     * Runs an action once the current transaction has ended.  Actions also run when a transaction is aborted, or fails to commit, as
+     * they might have been committed anyway.
+     *
+     * @param action the action
+     * @morphia.internal
+     * @since 2.3
+     */
+    public void afterTransaction(Runnable action) {
+        afterTransaction.add(action);
+    }
+
+    private void endTransaction() {
+        Runnable action = afterTransaction.poll();
+        while (action != null) {
+            action.run();
+            action = afterTransaction.poll();
+        }
     }
 
     @Override
@@ -159,7 +250,11 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
 
     @Override
     public void close() {
-        session.close();
+        try {
+            session.close();
+        } finally {
+            endTransaction();
+        }
     }
 
     /**
@@ -5,9 +5,29 @@ import dev.morphia.AdvancedDatastore;
 
 /**
  * Wraps a ClientSession reference for convenient use of MongoDB's multidocument transaction support.
+ * <p>
+ * A session holds a single instance of each entity it loads.  Reading the same document again within the session, whether through a
+ * query or a reference, yields that same instance and a query for a single ID is answered without a trip to the server when the entity
+ * is already known.  Entities saved, inserted, merged or deleted through the session are kept in step.  Updates and deletes issued via
+ * queries make the session forget the entities they may have changed:  those with the IDs the query is limited to or, if it is not
+ * limited to any, every entity of the collection.  {@link #evict(Object)} and {@link #evictAll()} forget entities explicitly.
  *
  * @morphia.experimental
  */
 @SuppressWarnings("removal")
 public interface MorphiaSession extends AdvancedDatastore, ClientSession {
+    /**
+     * Forgets an entity so that it is read from the database the next time it is loaded within this session
+     *
+     * @param entity the entity
+     * @since 2.3
+     */
+    void evict(Object entity);
+
+    /**
+     * Forgets every entity loaded within this session
+     *
+     * @since 2.3
+     */
+    void evictAll();
 }
@@ -30,35 +30,45 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
     public <T> void insert(T entity, InsertOneOptions options) {
         super.insert(entity, new InsertOneOptions(options)
                                  .clientSession(findSession(options)));
+        remember(entity);
     }
 
     @Override
     public <T> void insert(List<T> entities, InsertManyOptions options) {
         super.insert(entities, new InsertManyOptions(options)
                                    .clientSession(findSession(options)));
+        entities.forEach(this::remember);
     }
 
     @Override
     public <T> DeleteResult delete(T entity, DeleteOptions options) {
-        return super.delete(entity, new DeleteOptions(options)
-                                        .clientSession(findSession(options)));
+        DeleteResult result = super.delete(entity, new DeleteOptions(options)
+                                                       .clientSession(findSession(options)));
+        forget(entity);
+        return result;
     }
 
     @Override
     public <T> T merge(T entity, InsertOneOptions options) {
-        return super.merge(entity, new InsertOneOptions(options)
-                                       .clientSession(findSession(options)));
+        T merged = super.merge(entity, new InsertOneOptions(options)
+                                           .clientSession(findSession(options)));
+        remember(merged);
+        return merged;
     }
 
     @Override
     public <T> List<T> save(List<T> entities, InsertManyOptions options) {
-        return super.save(entities, new InsertManyOptions(options)
-                                        .clientSession(findSession(options)));
+        List<T> saved = super.save(entities, new InsertManyOptions(options)
+                                                 .clientSession(findSession(options)));
+        saved.forEach(this::remember);
+        return saved;
     }
 
     @Override
     public <T> T save(T entity, InsertOneOptions options) {
-        return super.save(entity, new InsertOneOptions(options)
-                                      .clientSession(findSession(options)));
+        T saved = super.save(entity, new InsertOneOptions(options)
+                                         .clientSession(findSession(options)));
+        remember(saved);
+        return saved;
     }
 }
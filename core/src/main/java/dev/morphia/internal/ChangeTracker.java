@@ -0,0 +1,138 @@
+package dev.morphia.internal;
+
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the encoded state of entities as they were last loaded or saved so that saving them again only needs to write what changed.
+ * Entities are held weakly and compared by identity so tracking does not keep them alive nor depend on their {@code equals()}.
+ *
+ * @morphia.internal
+ * @see dev.morphia.mapping.MapperOptions.Builder#trackChanges(boolean)
+ * @since 2.3
+ */
+public final class ChangeTracker {
+    private final Map<Key, BsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Computes the update needed to turn one state of an entity in to another.  Embedded documents are compared field by field so that
+     * only the changed paths are set while arrays and other values are set whole.  The ID is never part of the update.
+     *
+     * @param before the state last written
+     * @param after  the current state
+     * @return the update document which is empty if nothing changed
+     */
+    public static BsonDocument diff(BsonDocument before, BsonDocument after) {
+        BsonDocument set = new BsonDocument();
+        BsonDocument unset = new BsonDocument();
+        diff("", before, after, set, unset);
+        set.remove("_id");
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty()) {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
+    private static void diff(String prefix, BsonDocument before, BsonDocument after, BsonDocument set, BsonDocument unset) {
+        for (Entry<String, BsonValue> entry : after.entrySet()) {
+            String path = prefix + entry.getKey();
+            BsonValue old = before.get(entry.getKey());
+            BsonValue value = entry.getValue();
+            if (old != null && old.isDocument() && value.isDocument()) {
+                diff(path + ".", old.asDocument(), value.asDocument(), set, unset);
+            } else if (!value.equals(old)) {
+                set.put(path, value);
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                unset.put(prefix + key, new BsonString(""));
+            }
+        }
+    }
+
+    /**
+     * @param entity the entity
+     * @return the state of the entity as last loaded or saved or null if it is not tracked
+     */
+    @Nullable
+    public BsonDocument get(Object entity) {
+        purge();
+        return snapshots.get(new Key(entity, null));
+    }
+
+    /**
+     * Records the state of an entity
+     *
+     * @param entity   the entity
+     * @param snapshot the encoded state
+     */
+    public void put(Object entity, BsonDocument snapshot) {
+        purge();
+        snapshots.put(new Key(entity, queue), snapshot);
+    }
+
+    /**
+     * Stops tracking an entity.  Its next save will write the entire entity.
+     *
+     * @param entity the entity
+     */
+    public void remove(Object entity) {
+        snapshots.remove(new Key(entity, null));
+    }
+
+    /**
+     * @return the number of entities tracked
+     */
+    public int size() {
+        purge();
+        return snapshots.size();
+    }
+
+    private void purge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        Key(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == ((Key) o).get();
+        }
+    }
+}
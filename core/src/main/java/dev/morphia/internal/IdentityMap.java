@@ -0,0 +1,152 @@
+package dev.morphia.internal;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the single instance of each entity loaded within a {@link dev.morphia.experimental.MorphiaSession} keyed by its collection and
+ * ID.  A map is bound to the current thread while a session's cursors are read so that every entity decoded, including any referenced
+ * entities, is replaced by the instance already known to the session.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class IdentityMap {
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, Object> entities = new ConcurrentHashMap<>();
+
+    /**
+     * @return the map bound to this thread or null if entities are not being loaded within a session
+     */
+    @Nullable
+    public static IdentityMap current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an operation which might decode entities with the given map bound to the current thread.
+     *
+     * @param map       the map to bind or null to run the operation as is
+     * @param operation the operation to run
+     * @param <V>       the operation's result type
+     * @return the result of the operation
+     */
+    public static <V> V within(@Nullable IdentityMap map, Supplier<V> operation) {
+        if (map == null) {
+            return operation.get();
+        }
+        IdentityMap previous = CURRENT.get();
+        CURRENT.set(map);
+        try {
+            return operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Finds the instance already known for an entity.  If there isn't one, the given entity becomes that instance.
+     *
+     * @param collection the collection name
+     * @param id         the ID
+     * @param entity     the newly loaded entity
+     * @param <T>        the entity type
+     * @return the known instance or the given entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T canonical(String collection, Object id, T entity) {
+        Object known = entities.putIfAbsent(new Key(collection, id), entity);
+        return known != null && entity.getClass().isInstance(known) ? (T) known : entity;
+    }
+
+    /**
+     * Removes every entity
+     */
+    public void clear() {
+        entities.clear();
+    }
+
+    /**
+     * Forgets every instance from a collection.  This is needed when documents are changed by a query as the entities affected are not
+     * known.
+     *
+     * @param collection the collection name
+     */
+    public void evict(String collection) {
+        entities.keySet().removeIf(key -> key.collection.equals(collection));
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID
+     * @return the instance known for the ID or null
+     */
+    @Nullable
+    public Object get(String collection, Object id) {
+        return entities.get(new Key(collection, id));
+    }
+
+    /**
+     * Makes an entity the instance known for its ID
+     *
+     * @param collection the collection name
+     * @param id         the ID
+     * @param entity     the entity
+     */
+    public void put(String collection, Object id, Object entity) {
+        entities.put(new Key(collection, id), entity);
+    }
+
+    /**
+     * Forgets the instance known for an ID
+     *
+     * @param collection the collection name
+     * @param id         the ID
+     */
+    public void remove(String collection, Object id) {
+        entities.remove(new Key(collection, id));
+    }
+
+    /**
+     * @return the number of entities held
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    private static final class Key {
+        private final String collection;
+        private final Object id;
+
+        Key(String collection, Object id) {
+            this.collection = collection;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * collection.hashCode() + id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return collection.equals(that.collection) && Objects.equals(id, that.id);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dev.morphia.internal;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the paths translated by {@link PathTarget} so that the same path on the same entity only needs to be resolved once.  The cache
+ * is bounded and is simply emptied once it reaches its limit rather than tracking which entries are least recently used.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class PathCache {
+    /**
+     * The default number of paths to hold
+     */
+    public static final int DEFAULT_LIMIT = 1000;
+
+    private final Map<Key, Resolution> cache = new ConcurrentHashMap<>();
+    private final int limit;
+
+    /**
+     * Creates a cache holding at most {@link #DEFAULT_LIMIT} paths
+     */
+    public PathCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param limit the maximum number of paths to hold
+     */
+    public PathCache(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Removes every cached path.  This should be done whenever the mapping changes as new subtypes can change how a path resolves.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Nullable
+    Resolution get(EntityModel root, String path, boolean validate) {
+        return cache.get(new Key(root, path, validate));
+    }
+
+    void put(EntityModel root, String path, boolean validate, Resolution resolution) {
+        if (cache.size() >= limit) {
+            cache.clear();
+        }
+        cache.put(new Key(root, path, validate), resolution);
+    }
+
+    static final class Resolution {
+        private final String translated;
+        @Nullable
+        private final PropertyModel target;
+
+        Resolution(String translated, @Nullable PropertyModel target) {
+            this.translated = translated;
+            this.target = target;
+        }
+
+        String getTranslated() {
+            return translated;
+        }
+
+        @Nullable
+        PropertyModel getTarget() {
+            return target;
+        }
+    }
+
+    private static final class Key {
+        private final EntityModel root;
+        private final String path;
+        private final boolean validate;
+        private final int hash;
+
+        private Key(EntityModel root, String path, boolean validate) {
+            this.root = root;
+            this.path = path;
+            this.validate = validate;
+            // models are compared by identity as their own hashCode() walks every property
+            hash = 31 * (31 * System.identityHashCode(root) + path.hashCode()) + (validate ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return root == key.root && validate == key.validate && Objects.equals(path, key.path);
+        }
+    }
+}
@@ -27,7 +27,6 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringJoiner;
 
 import static java.util.Arrays.asList;
 
@@ -36,8 +35,10 @@ import static java.util.Arrays.asList;
  * @since 1.3
  */
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
     private final boolean validateNames;
+    private List<String> segments;
+    private String translated;
     private int position;
     private final Mapper mapper;
     private final EntityModel root;
@@ -66,11 +67,14 @@ public class PathTarget {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
         resolved = path.startsWith("$");
+        if (resolved) {
+            translated = path;
+        }
     }
 
     /**
@@ -107,9 +111,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        return translated;
     }
 
     /**
@@ -127,7 +129,8 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, path=%s, target=%s}", root != null ? root.getType().getSimpleName() : null, path,
+            target);
     }
 
     private boolean hasNext() {
@@ -136,10 +139,31 @@ public class PathTarget {
 
     private void failValidation(String pathElement) {
         resolved = true;
-        throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName(), pathElement));
+        translated = String.join(".", segments);
+        throw new ValidationException(Sofia.invalidPathTarget(translated, root.getType().getName(), pathElement));
+    }
+
+    private static boolean isIndex(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return !segment.isEmpty();
     }
 
     private void resolve() {
+        PathCache cache = root != null ? mapper.getPathCache() : null;
+        if (cache != null) {
+            PathCache.Resolution resolution = cache.get(root, path, validateNames);
+            if (resolution != null) {
+                translated = resolution.getTranslated();
+                target = resolution.getTarget();
+                resolved = true;
+                return;
+            }
+        }
+        segments = asList(path.split("\\."));
         context = this.root;
         position = 0;
         PropertyModel property = null;
@@ -147,7 +171,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || isIndex(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -170,7 +194,11 @@ public class PathTarget {
             }
         }
         target = property;
+        translated = String.join(".", segments);
         resolved = true;
+        if (cache != null) {
+            cache.put(root, path, validateNames, new PathCache.Resolution(translated, target));
+        }
     }
 
     private void translate(String nameToStore) {
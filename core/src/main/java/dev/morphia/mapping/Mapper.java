@@ -10,6 +10,9 @@ import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.experimental.ExternalEntity;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCaches;
+import dev.morphia.internal.ChangeTracker;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
@@ -59,6 +62,10 @@ public class Mapper {
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
     private final MapperOptions options;
     private final DiscriminatorLookup discriminatorLookup;
+    private final PathCache pathCache = new PathCache();
+    private final ChangeTracker changeTracker = new ChangeTracker();
+    private final EntityCaches entityCaches;
+    private volatile boolean interceptorsUseDocument;
 
     /**
      * Creates a Mapper with the given options.
@@ -68,6 +75,7 @@ public class Mapper {
      */
     public Mapper(MapperOptions options) {
         this.options = options;
+        entityCaches = new EntityCaches(options.getEntityCacheProvider());
         discriminatorLookup = new DiscriminatorLookup(options.getClassLoader());
     }
 
@@ -78,6 +86,7 @@ public class Mapper {
      */
     public void addInterceptor(EntityInterceptor ei) {
         interceptors.add(ei);
+        interceptorsUseDocument |= ei.usesDocument();
     }
 
     /**
@@ -178,6 +187,34 @@ public class Mapper {
         return discriminatorLookup;
     }
 
+    /**
+     * @return the tracker holding the last known state of loaded entities
+     * @morphia.internal
+     * @see MapperOptions#isTrackChanges()
+     * @since 2.3
+     */
+    public ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
+    /**
+     * @return the caches of the entities annotated with {@link dev.morphia.annotations.experimental.Cacheable}
+     * @morphia.internal
+     * @since 2.3
+     */
+    public EntityCaches getEntityCaches() {
+        return entityCaches;
+    }
+
+    /**
+     * @return the cache of translated paths
+     * @morphia.internal
+     * @since 2.3
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
     /**
      * Gets the {@link EntityModel} for the object (type). If it isn't mapped, create a new class and cache it (without validating).
      *
@@ -322,6 +359,16 @@ public class Mapper {
         return !interceptors.isEmpty();
     }
 
+    /**
+     * @return true if any global interceptor uses the Document form of an entity
+     * @morphia.internal
+     * @see EntityInterceptor#usesDocument()
+     * @since 2.3
+     */
+    public boolean interceptorsUseDocument() {
+        return interceptorsUseDocument;
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -457,6 +504,7 @@ public class Mapper {
     public EntityModel register(EntityModel entityModel) {
         discriminatorLookup.addModel(entityModel);
         mappedEntities.put(entityModel.getType(), entityModel);
+        pathCache.clear();
         if (entityModel.getCollectionName() != null) {
             mappedEntitiesByCollection.computeIfAbsent(entityModel.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                       .add(entityModel);
@@ -3,6 +3,8 @@ package dev.morphia.mapping;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Property;
+import dev.morphia.cache.EntityCacheProvider;
+import dev.morphia.cache.LruEntityCache;
 import dev.morphia.mapping.codec.pojo.experimental.EntityModelImporter;
 import dev.morphia.mapping.conventions.ConfigureProperties;
 import dev.morphia.mapping.conventions.FieldDiscovery;
@@ -49,7 +51,10 @@ public class MapperOptions {
     private final NamingStrategy propertyNaming;
     private final UuidRepresentation uuidRepresentation;
     private final QueryFactory queryFactory;
+    private final EntityCacheProvider entityCacheProvider;
     private final boolean enablePolymorphicQueries;
+    private final boolean reflectiveAccess;
+    private final boolean trackChanges;
     private ClassLoader classLoader;
 
     private MapperOptions(Builder builder) {
@@ -67,8 +72,11 @@ public class MapperOptions {
         ignoreFinals = builder.ignoreFinals();
         mapSubPackages = builder.mapSubPackages();
         queryFactory = builder.queryFactory();
+        entityCacheProvider = builder.entityCacheProvider();
+        reflectiveAccess = builder.reflectiveAccess();
         storeEmpties = builder.storeEmpties();
         storeNulls = builder.storeNulls();
+        trackChanges = builder.trackChanges();
         uuidRepresentation = builder.uuidRepresentation();
     }
 
@@ -176,6 +184,15 @@ public class MapperOptions {
         return propertyNaming;
     }
 
+    /**
+     * @return the provider of the caches for entities annotated with {@link dev.morphia.annotations.experimental.Cacheable}
+     * @morphia.experimental
+     * @since 2.3
+     */
+    public EntityCacheProvider getEntityCacheProvider() {
+        return entityCacheProvider;
+    }
+
     /**
      * @return the query factory used by the Datastore
      * @since 2.0
@@ -219,6 +236,14 @@ public class MapperOptions {
         return mapSubPackages;
     }
 
+    /**
+     * @return true if properties are read and written via reflection rather than via method and var handles
+     * @since 2.3
+     */
+    public boolean isReflectiveAccess() {
+        return reflectiveAccess;
+    }
+
     /**
      * @return true if Morphia should store empty values for lists/maps/sets/arrays
      */
@@ -233,6 +258,14 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if the state of loaded entities is kept so that saving them only writes the properties which changed
+     * @since 2.3
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
     public enum PropertyDiscovery {
         FIELDS,
         METHODS
@@ -252,6 +285,8 @@ public class MapperOptions {
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
         private boolean enablePolymorphicQueries;
+        private boolean reflectiveAccess = true;
+        private boolean trackChanges;
         private ClassLoader classLoader;
         private DateStorage dateStorage = DateStorage.UTC;
         private String discriminatorKey = "_t";
@@ -260,6 +295,7 @@ public class MapperOptions {
         private NamingStrategy propertyNaming = NamingStrategy.identity();
         private UuidRepresentation uuidRepresentation = STANDARD;
         private QueryFactory queryFactory = new DefaultQueryFactory();
+        private EntityCacheProvider entityCacheProvider = LruEntityCache::new;
         private PropertyDiscovery propertyDiscovery = FIELDS;
         private MapperOptions options;
 
@@ -283,7 +319,10 @@ public class MapperOptions {
             propertyNaming = original.propertyNaming;
             uuidRepresentation = original.uuidRepresentation;
             queryFactory = original.queryFactory;
+            entityCacheProvider = original.entityCacheProvider;
             propertyDiscovery = original.propertyDiscovery;
+            reflectiveAccess = original.reflectiveAccess;
+            trackChanges = original.trackChanges;
         }
 
         /**
@@ -488,6 +527,21 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the provider of the caches for entities annotated with {@link dev.morphia.annotations.experimental.Cacheable}.  The
+         * default provider keeps documents in memory.
+         *
+         * @param entityCacheProvider the provider
+         * @return this
+         * @morphia.experimental
+         * @since 2.3
+         */
+        public Builder entityCacheProvider(EntityCacheProvider entityCacheProvider) {
+            assertNotLocked();
+            this.entityCacheProvider = entityCacheProvider;
+            return this;
+        }
+
         /**
          * @param queryFactory the query factory to use when creating queries
          * @return this
@@ -498,6 +552,21 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Morphia reads and writes properties via reflection by default.  Turning this off reads and writes them via
+         * {@link java.lang.invoke.VarHandle VarHandles} and method handles instead, where the module system allows it.  The handles are
+         * still invoked with boxed values so this is opt in until it is shown to be faster.
+         *
+         * @param reflectiveAccess if true, properties are accessed via reflection.  The default is true.
+         * @return this
+         * @since 2.3
+         */
+        public Builder reflectiveAccess(boolean reflectiveAccess) {
+            assertNotLocked();
+            this.reflectiveAccess = reflectiveAccess;
+            return this;
+        }
+
         /**
          * @param storeEmpties if true empty maps and collection types are stored in the database
          * @return this
@@ -518,6 +587,21 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Keeps the encoded state of each entity as it is loaded.  Saving a loaded entity with an ID then only sends {@code $set} and
+         * {@code $unset} operators for the properties which changed rather than replacing the whole document.  Version checks are applied
+         * as with any other save.  This costs an extra encoding of each loaded entity and the memory to hold its state.
+         *
+         * @param trackChanges if true, changes to loaded entities are tracked
+         * @return this
+         * @since 2.3
+         */
+        public Builder trackChanges(boolean trackChanges) {
+            assertNotLocked();
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * @param useLowerCaseCollectionNames if true, generated collections names are lower cased
          * @return this
@@ -597,10 +681,18 @@ public class MapperOptions {
             return propertyNaming;
         }
 
+        private EntityCacheProvider entityCacheProvider() {
+            return entityCacheProvider;
+        }
+
         private QueryFactory queryFactory() {
             return queryFactory;
         }
 
+        private boolean reflectiveAccess() {
+            return reflectiveAccess;
+        }
+
         private boolean storeEmpties() {
             return storeEmpties;
         }
@@ -609,6 +701,10 @@ public class MapperOptions {
             return storeNulls;
         }
 
+        private boolean trackChanges() {
+            return trackChanges;
+        }
+
         private UuidRepresentation uuidRepresentation() {
             return uuidRepresentation;
         }
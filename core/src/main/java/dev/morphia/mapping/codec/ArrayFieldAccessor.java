@@ -17,6 +17,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
 
     private final TypeData<?> typeData;
     private final Class<?> componentType;
+    private final FieldAccessor accessor;
 
     /**
      * Creates the accessor
@@ -25,9 +26,26 @@ public class ArrayFieldAccessor extends FieldAccessor {
      * @param field    the field
      */
     public ArrayFieldAccessor(TypeData<?> typeData, Field field) {
-        super(field);
+        this(typeData, new FieldAccessor(field));
+    }
+
+    /**
+     * Creates the accessor
+     *
+     * @param typeData the type data
+     * @param accessor the accessor to use to read and write the field
+     * @since 2.3
+     */
+    public ArrayFieldAccessor(TypeData<?> typeData, FieldAccessor accessor) {
+        super(accessor.getField());
         this.typeData = typeData;
-        componentType = field.getType().getComponentType();
+        this.accessor = accessor;
+        componentType = accessor.getField().getType().getComponentType();
+    }
+
+    @Override
+    public Object get(Object instance) {
+        return accessor.get(instance);
     }
 
     @Override
@@ -36,7 +54,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
         if (value.getClass().getComponentType() != componentType) {
             newValue = value instanceof List ? convert((List) value) : convert((Object[]) value);
         }
-        super.set(instance, newValue);
+        accessor.set(instance, newValue);
     }
 
     private Object convert(Object[] value) {
@@ -0,0 +1,93 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.pojo.experimental.GeneratedCodecFactory;
+import dev.morphia.sofia.Sofia;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the codecs generated at build time for Morphia entities.  This provider is registered ahead of the reflective
+ * {@link MorphiaCodecProvider} and returns null for any type it has no generated codec for or whose runtime mapping differs from what was
+ * seen at build time so that those types fall back to the reflective codecs.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public class GeneratedCodecProvider extends MorphiaCodecProvider {
+    private final Map<Class<?>, GeneratedCodecFactory> factories = new HashMap<>();
+    private final Set<Class<?>> mismatched = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a provider
+     *
+     * @param datastore the Datastore to use
+     */
+    public GeneratedCodecProvider(Datastore datastore) {
+        super(datastore);
+        ServiceLoader.load(GeneratedCodecFactory.class)
+                     .forEach(factory -> factories.put(factory.getType(), factory));
+    }
+
+    /**
+     * @return true if any generated codecs were found
+     */
+    public boolean hasCodecs() {
+        return !factories.isEmpty();
+    }
+
+    @Nullable
+    @Override
+    public <T> Codec<T> get(Class<T> type, CodecRegistry registry) {
+        if (!factories.containsKey(type) || mismatched.contains(type)) {
+            return null;
+        }
+        return super.get(type, registry);
+    }
+
+    @Nullable
+    @Override
+    protected <T> MorphiaCodec<T> createCodec(EntityModel model, CodecRegistry registry) {
+        GeneratedCodecFactory factory = factories.get(model.getType());
+        if (factory == null || !matches(factory, model)) {
+            Sofia.logGeneratedCodecMismatch(model.getType().getName());
+            mismatched.add(model.getType());
+            return null;
+        }
+        return factory.create(getDatastore(), model, getPropertyCodecProviders(), registry);
+    }
+
+    private boolean matches(GeneratedCodecFactory factory, EntityModel model) {
+        List<PropertyModel> properties = model.getProperties();
+        List<String> names = factory.getProperties();
+        List<List<String>> loadNames = factory.getLoadNames();
+        PropertyModel idProperty = model.getIdProperty();
+        if (properties.size() != names.size()
+            || !Objects.equals(idProperty != null ? idProperty.getName() : null, factory.getIdProperty())) {
+            return false;
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            if (!property.getName().equals(names.get(i))
+                || !property.getLoadNames().equals(loadNames.get(i))
+                || !(property.getAccessor() instanceof FieldAccessor)
+                || model.useDiscriminator() && (property.getName().equals(model.getDiscriminatorKey())
+                                                || property.getLoadNames().contains(model.getDiscriminatorKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
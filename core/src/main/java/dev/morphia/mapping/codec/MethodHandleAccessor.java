@@ -0,0 +1,66 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.MappingException;
+import org.bson.codecs.pojo.PropertyAccessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Accesses a property via its getter and setter methods using functions created by the {@link LambdaMetafactory} so that the calls can
+ * be inlined like any other method call rather than going through reflection.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public class MethodHandleAccessor implements PropertyAccessor<Object> {
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    /**
+     * Creates the accessor
+     *
+     * @param getter the getter method
+     * @param setter the setter method
+     * @throws IllegalAccessException if the declaring type does not grant access to the methods, e.g. when it lives in a module that does
+     *                                not open its package to Morphia
+     */
+    @SuppressWarnings("unchecked")
+    public MethodHandleAccessor(Method getter, Method setter) throws IllegalAccessException {
+        Lookup lookup = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle getterHandle = lookup.unreflect(getter);
+        MethodHandle setterHandle = lookup.unreflect(setter);
+        try {
+            CallSite getterSite = LambdaMetafactory.metafactory(lookup, "apply", methodType(Function.class),
+                methodType(Object.class, Object.class), getterHandle,
+                methodType(getterHandle.type().wrap().returnType(), getter.getDeclaringClass()));
+            CallSite setterSite = LambdaMetafactory.metafactory(lookup, "accept", methodType(BiConsumer.class),
+                methodType(void.class, Object.class, Object.class), setterHandle,
+                methodType(void.class, setter.getDeclaringClass(), setterHandle.type().wrap().parameterType(1)));
+            this.getter = (Function<Object, Object>) getterSite.getTarget().invoke();
+            this.setter = (BiConsumer<Object, Object>) setterSite.getTarget().invoke();
+        } catch (IllegalAccessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <S> Object get(S instance) {
+        return getter.apply(instance);
+    }
+
+    @Override
+    public <S> void set(S instance, Object value) {
+        setter.accept(instance, value);
+    }
+}
@@ -19,10 +19,10 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -30,7 +30,7 @@ import java.util.ServiceLoader;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders = new ArrayList<>();
     private final Datastore datastore;
@@ -58,19 +58,40 @@ public class MorphiaCodecProvider implements CodecProvider {
         MorphiaCodec<T> codec = (MorphiaCodec<T>) codecs.get(type);
         if (codec == null && (mapper.isMapped(type) || mapper.isMappable(type))) {
             EntityModel model = mapper.getEntityModel(type);
-            codec = new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry);
-            if (model.hasLifecycle(PostPersist.class) || model.hasLifecycle(PrePersist.class) || mapper.hasInterceptors()) {
-                codec.setEncoder(new LifecycleEncoder(codec));
+            codec = createCodec(model, registry);
+            if (codec != null) {
+                if (model.hasLifecycle(PostPersist.class) || model.hasLifecycle(PrePersist.class) || mapper.hasInterceptors()) {
+                    codec.setEncoder(new LifecycleEncoder(codec));
+                }
+                if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasInterceptors()) {
+                    codec.setDecoder(new LifecycleDecoder(codec));
+                }
+                // codecs can not be built inside computeIfAbsent() as building one may need the codecs of other types.  if another thread
+                // won the race for this type, use its codec so that only one instance is ever handed out.
+                MorphiaCodec<T> existing = (MorphiaCodec<T>) codecs.putIfAbsent(type, codec);
+                if (existing != null) {
+                    codec = existing;
+                }
             }
-            if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasInterceptors()) {
-                codec.setDecoder(new LifecycleDecoder(codec));
-            }
-            codecs.put(type, codec);
         }
 
         return codec;
     }
 
+    /**
+     * Creates the codec for a model.  Lifecycle support is layered on top of the returned codec by this provider.
+     *
+     * @param model    the model to create the codec for
+     * @param registry the codec registry
+     * @param <T>      the entity type
+     * @return the new codec or null if this provider does not handle the type
+     * @since 2.3
+     */
+    @Nullable
+    protected <T> MorphiaCodec<T> createCodec(EntityModel model, CodecRegistry registry) {
+        return new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry);
+    }
+
     protected Map<Class<?>, Codec<?>> getCodecs() {
         return codecs;
     }
@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Accesses a field via a {@link VarHandle} rather than reflection.  {@code final} fields can not be written via a VarHandle so those
+ * writes still go through reflection.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public class VarHandleAccessor extends FieldAccessor {
+    private final VarHandle handle;
+    private final boolean writable;
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field the field itself
+     * @throws IllegalAccessException if the field's type does not grant access to the field, e.g. when it lives in a module that does not
+     *                                open its package to Morphia
+     */
+    public VarHandleAccessor(Field field) throws IllegalAccessException {
+        super(field);
+        handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                              .unreflectVarHandle(field);
+        writable = !Modifier.isFinal(field.getModifiers());
+    }
+
+    @Override
+    public Object get(Object instance) {
+        return handle.get(instance);
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        if (writable) {
+            handle.set(instance, value);
+        } else {
+            super.set(instance, value);
+        }
+    }
+}
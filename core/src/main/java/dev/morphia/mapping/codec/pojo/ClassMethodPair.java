@@ -19,14 +19,20 @@ public class ClassMethodPair {
     private final Class<?> type;
     private final Method method;
     private final Class<? extends Annotation> event;
+    private final boolean usesDocument;
 
     ClassMethodPair(Method method, @Nullable Class<?> type, Class<? extends Annotation> event) {
         this.event = event;
         this.type = type;
         this.method = method;
+        boolean document = false;
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            document |= parameterType.equals(Document.class);
+        }
+        usesDocument = document;
     }
 
-    void invoke(Datastore datastore, Document document, Object entity) {
+    void invoke(Datastore datastore, @Nullable Document document, Object entity) {
         try {
             Object instance;
             if (type != null) {
@@ -71,4 +77,8 @@ public class ClassMethodPair {
         return method;
     }
 
+    boolean usesDocument() {
+        return usesDocument;
+    }
+
 }
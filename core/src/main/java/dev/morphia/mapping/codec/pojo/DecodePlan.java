@@ -0,0 +1,155 @@
+package dev.morphia.mapping.codec.pojo;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A precomputed lookup of an entity's properties by the field names found in its documents.  Documents written by Morphia list their
+ * fields in the order the properties are encoded so each lookup first checks the name expected next before falling back to a hash table
+ * holding every name a property can be loaded from, including any {@link dev.morphia.annotations.AlsoLoad} names.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class DecodePlan {
+    /**
+     * The position returned for names which do not belong to any property
+     */
+    public static final int UNKNOWN = -1;
+    private static final int MAX_GROWTH = 4;
+
+    private final String[] expected;
+    private final PropertyModel[] properties;
+    private final String[] keys;
+    private final int[] hashes;
+    private final int[] positions;
+    private final int mask;
+
+    DecodePlan(EntityModel model, Map<String, PropertyModel> byMappedName, Map<String, PropertyModel> byName) {
+        List<String> names = new ArrayList<>();
+        List<PropertyModel> models = new ArrayList<>();
+        Map<PropertyModel, Integer> indexes = new IdentityHashMap<>();
+        PropertyModel idProperty = model.getIdProperty();
+        if (idProperty != null) {
+            add(names, models, indexes, idProperty);
+        }
+        int discriminator = UNKNOWN;
+        if (model.useDiscriminator()) {
+            discriminator = names.size();
+            names.add(model.getDiscriminatorKey());
+            models.add(null);
+        }
+        for (PropertyModel property : byName.values()) {
+            add(names, models, indexes, property);
+        }
+
+        // the same precedence as EntityModel.getProperty(): mapped names first then java names not already claimed
+        Map<String, Integer> table = new LinkedHashMap<>();
+        byMappedName.forEach((name, property) -> table.put(name, add(names, models, indexes, property)));
+        byName.forEach((name, property) -> table.putIfAbsent(name, add(names, models, indexes, property)));
+        if (discriminator != UNKNOWN) {
+            table.put(model.getDiscriminatorKey(), discriminator);
+        }
+
+        expected = names.toArray(new String[0]);
+        for (int i = 0; i < expected.length; i++) {
+            if (!Integer.valueOf(i).equals(table.get(expected[i]))) {
+                expected[i] = null;
+            }
+        }
+        properties = models.toArray(new PropertyModel[0]);
+
+        int size = 2;
+        while (size < table.size() * 2) {
+            size <<= 1;
+        }
+        // grow the table a few times looking for a size without collisions but settle for probing rather than waste memory
+        for (int i = 0; i < MAX_GROWTH && collides(table, size - 1); i++) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        keys = new String[size];
+        hashes = new int[size];
+        positions = new int[size];
+        for (Entry<String, Integer> entry : table.entrySet()) {
+            int hash = spread(entry.getKey().hashCode());
+            int index = hash & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = entry.getKey();
+            hashes[index] = hash;
+            positions[index] = entry.getValue();
+        }
+    }
+
+    /**
+     * Finds the position of the property for a field name
+     *
+     * @param name     the field name
+     * @param expected the position expected to match, typically the one after the last match
+     * @return the position or {@link #UNKNOWN}
+     */
+    public int find(String name, int expected) {
+        if (expected < this.expected.length) {
+            String guess = this.expected[expected];
+            if (guess != null && guess.equals(name)) {
+                return expected;
+            }
+        }
+        int hash = spread(name.hashCode());
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (hashes[index] == hash && keys[index].equals(name)) {
+                return positions[index];
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @param position the position
+     * @return the property at the position or null if the position is that of the discriminator
+     */
+    @Nullable
+    public PropertyModel getProperty(int position) {
+        return properties[position];
+    }
+
+    /**
+     * @param position the position
+     * @return true if the position is that of the discriminator
+     */
+    public boolean isDiscriminator(int position) {
+        return properties[position] == null;
+    }
+
+    private static int add(List<String> names, List<PropertyModel> models, Map<PropertyModel, Integer> indexes, PropertyModel property) {
+        return indexes.computeIfAbsent(property, p -> {
+            names.add(p.getMappedName());
+            models.add(p);
+            return models.size() - 1;
+        });
+    }
+
+    private static boolean collides(Map<String, Integer> table, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (String name : table.keySet()) {
+            int index = spread(name.hashCode()) & mask;
+            if (used[index]) {
+                return true;
+            }
+            used[index] = true;
+        }
+        return false;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
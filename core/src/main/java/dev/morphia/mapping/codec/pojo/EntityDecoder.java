@@ -3,6 +3,7 @@ package dev.morphia.mapping.codec.pojo;
 import com.mongodb.lang.Nullable;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
@@ -50,36 +51,62 @@ public class EntityDecoder<T> implements Decoder<T> {
                                MorphiaInstanceCreator instanceCreator, @Nullable PropertyModel model) {
 
         if (model != null) {
-            final BsonReaderMark mark = reader.getMark();
-            try {
-                if (reader.getCurrentBsonType() == BsonType.NULL) {
-                    reader.readNull();
-                } else {
-                    Object value = decoderContext.decodeWithChildContext(model.getCodec(), reader);
-                    instanceCreator.set(value, model);
-                }
-            } catch (BsonInvalidOperationException e) {
-                mark.reset();
-                final Object value = morphiaCodec.getDatastore().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set(convert(value, model.getTypeData().getType()), model);
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else {
+                instanceCreator.set(decodeValue(reader, decoderContext, model), model);
             }
         } else {
             reader.skipValue();
         }
     }
 
+    /**
+     * Decodes the current, non-null value for a property.  If the property's codec can not read the value, the value is read as a
+     * generic type and converted to the property's type.
+     *
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @param model          the property being decoded
+     * @return the decoded value
+     * @since 2.3
+     */
+    @Nullable
+    protected Object decodeValue(BsonReader reader, DecoderContext decoderContext, PropertyModel model) {
+        final BsonReaderMark mark = reader.getMark();
+        try {
+            return decoderContext.decodeWithChildContext(model.getCodec(), reader);
+        } catch (BsonInvalidOperationException e) {
+            mark.reset();
+            final Object value = morphiaCodec.getDatastore().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
+            return convert(value, model.getTypeData().getType());
+        }
+    }
+
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
                                     MorphiaInstanceCreator instanceCreator, EntityModel classModel) {
+        ReferenceBatch batch = ReferenceBatch.current();
+        int mark = batch != null ? batch.mark() : 0;
+        DecodePlan plan = classModel.getDecodePlan();
+        int expected = 0;
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-            String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
-                reader.readString();
+            int position = plan.find(reader.readName(), expected);
+            if (position == DecodePlan.UNKNOWN) {
+                decodeModel(reader, decoderContext, instanceCreator, null);
             } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getProperty(name));
+                expected = position + 1;
+                if (plan.isDiscriminator(position)) {
+                    reader.readString();
+                } else {
+                    decodeModel(reader, decoderContext, instanceCreator, plan.getProperty(position));
+                }
             }
         }
         reader.readEndDocument();
+        if (batch != null) {
+            batch.bind(mark, instanceCreator);
+        }
     }
 
     protected Codec<T> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
@@ -9,10 +9,9 @@ import org.bson.codecs.ObjectIdGenerator;
 import org.bson.types.ObjectId;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
-
 /**
  * @param <T> the entity type
  * @morphia.internal
@@ -32,22 +31,13 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
         if (areEquivalentTypes(value.getClass(), model.getType())) {
-            document(writer, () -> {
-
-                PropertyModel idModel = model.getIdProperty();
-                encodeIdProperty(writer, value, encoderContext, idModel);
-
-                if (model.useDiscriminator()) {
-                    encodeDiscriminator(writer, model);
-                }
-
-                for (PropertyModel propertyModel : model.getProperties()) {
-                    if (propertyModel.equals(idModel)) {
-                        continue;
-                    }
-                    encodeValue(writer, encoderContext, propertyModel, propertyModel.getAccessor().get(value));
-                }
-            });
+            writer.writeStartDocument();
+            encodeIdProperty(writer, value, encoderContext, model.getIdProperty());
+            if (model.useDiscriminator()) {
+                encodeDiscriminator(writer, model);
+            }
+            encodeProperties(writer, value, encoderContext);
+            writer.writeEndDocument();
         } else {
             morphiaCodec.getRegistry()
                         .get((Class) value.getClass())
@@ -84,6 +74,23 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
         }
     }
 
+    /**
+     * Encodes every property other than the ID property.
+     *
+     * @param writer         the writer
+     * @param value          the entity to encode
+     * @param encoderContext the context
+     * @since 2.3
+     */
+    protected void encodeProperties(BsonWriter writer, T value, EncoderContext encoderContext) {
+        // indexed rather than iterated so that writing an entity doesn't allocate an iterator for it
+        List<PropertyModel> properties = morphiaCodec.getEntityModel().getNonIdProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel propertyModel = properties.get(i);
+            encodeValue(writer, encoderContext, propertyModel, propertyModel.getAccessor().get(value));
+        }
+    }
+
     protected void encodeValue(BsonWriter writer, EncoderContext encoderContext, PropertyModel model, @Nullable Object value) {
         if (model.shouldSerialize(value)) {
             writeValue(writer, encoderContext, model, value);
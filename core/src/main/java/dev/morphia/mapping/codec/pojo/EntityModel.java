@@ -24,10 +24,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -59,8 +61,12 @@ public class EntityModel {
     private final EntityModel superClass;
     private final PropertyModel idProperty;
     private final PropertyModel versionProperty;
+    private final DecodePlan decodePlan;
+    private final List<PropertyModel> properties;
+    private final List<PropertyModel> nonIdProperties;
     private final Mapper mapper;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private volatile Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private Set<Class<? extends Annotation>> documentEvents;
 
     /**
      * Creates a new instance
@@ -103,6 +109,11 @@ public class EntityModel {
         }
         idProperty = getProperty(builder.idPropertyName());
         versionProperty = getProperty(builder.versionPropertyName());
+        properties = List.copyOf(propertyModelsByName.values());
+        nonIdProperties = properties.stream()
+                                    .filter(property -> property != idProperty)
+                                    .collect(Collectors.toUnmodifiableList());
+        decodePlan = new DecodePlan(this, propertyModelsByMappedName, propertyModelsByName);
 
         builder.interfaces().forEach(i -> i.addSubtype(this));
     }
@@ -112,10 +123,11 @@ public class EntityModel {
      *
      * @param event     the event to run
      * @param entity    the entity to use
-     * @param document  the document used in persistence
+     * @param document  the document used in persistence or null if no lifecycle method or interceptor
+     *                  {@link #usesDocument(Class) uses one}
      * @param datastore the Datastore to use
      */
-    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, Document document,
+    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, @Nullable Document document,
                                      Datastore datastore) {
         final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(event);
         if (methodPairs != null) {
@@ -157,6 +169,15 @@ public class EntityModel {
         return collectionName;
     }
 
+    /**
+     * @return the lookup of this type's properties by the field names found in documents
+     * @morphia.internal
+     * @since 2.3
+     */
+    public DecodePlan getDecodePlan() {
+        return decodePlan;
+    }
+
     /**
      * @return the discriminator
      */
@@ -207,16 +228,25 @@ public class EntityModel {
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
         if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
+            Map<Class<? extends Annotation>, List<ClassMethodPair>> methods = new HashMap<>();
 
             final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
             if (entityLisAnn != null && entityLisAnn.value().length != 0) {
                 for (Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
+                    mapEvent(methods, aClass, true);
                 }
             }
 
-            mapEvent(getType(), false);
+            mapEvent(methods, getType(), false);
+
+            Set<Class<? extends Annotation>> events = new HashSet<>();
+            methods.forEach((event, pairs) -> {
+                if (pairs.stream().anyMatch(ClassMethodPair::usesDocument)) {
+                    events.add(event);
+                }
+            });
+            documentEvents = events;
+            lifecycleMethods = methods;
         }
         return lifecycleMethods;
     }
@@ -235,18 +265,30 @@ public class EntityModel {
      * @return the list of properties
      */
     public List<PropertyModel> getProperties(Class<? extends Annotation> type) {
-        return propertyModelsByName.values().stream()
+        return properties.stream()
                                    .filter(model -> model.hasAnnotation(type))
                                    .collect(Collectors.toList());
     }
 
     /**
-     * Returns all the properties on this model
+     * Returns all the properties on this model.  The list is shared rather than copied on each call so it can't be modified.  Callers
+     * needing to change it should copy it first.
      *
-     * @return the list of properties
+     * @return the unmodifiable list of properties
      */
     public List<PropertyModel> getProperties() {
-        return new ArrayList<>(propertyModelsByName.values());
+        return properties;
+    }
+
+    /**
+     * Returns all the properties on this model other than the {@link #getIdProperty() ID property}
+     *
+     * @return the unmodifiable list of properties
+     * @morphia.internal
+     * @since 2.3
+     */
+    public List<PropertyModel> getNonIdProperties() {
+        return nonIdProperties;
     }
 
     /**
@@ -351,6 +393,19 @@ public class EntityModel {
         return getType().isInterface();
     }
 
+    /**
+     * Checks whether any lifecycle method or global interceptor for an event uses the Document form of an entity.  The answer is worked
+     * out once, when the lifecycle methods are first looked up and as interceptors are added, since it is asked for every entity.
+     *
+     * @param event the event to check
+     * @return true if a Document is needed to invoke the event's lifecycle methods and interceptors
+     * @since 2.3
+     */
+    public boolean usesDocument(Class<? extends Annotation> event) {
+        getLifecycleMethods();
+        return documentEvents.contains(event) || mapper.interceptorsUseDocument();
+    }
+
     public boolean useDiscriminator() {
         return discriminatorEnabled;
     }
@@ -362,7 +417,7 @@ public class EntityModel {
         }
     }
 
-    private void callGlobalInterceptors(Class<? extends Annotation> event, Object entity, Document document,
+    private void callGlobalInterceptors(Class<? extends Annotation> event, Object entity, @Nullable Document document,
                                         Datastore datastore) {
         for (EntityInterceptor ei : datastore.getMapper().getInterceptors()) {
             Sofia.logCallingInterceptorMethod(event.getSimpleName(), ei);
@@ -403,12 +458,12 @@ public class EntityModel {
         return methods;
     }
 
-    private void mapEvent(Class<?> type, boolean entityListener) {
+    private void mapEvent(Map<Class<? extends Annotation>, List<ClassMethodPair>> methods, Class<?> type, boolean entityListener) {
         for (Method method : getDeclaredAndInheritedMethods(type)) {
             for (Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
-                    lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(method, entityListener ? type : null, annotationClass));
+                    methods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
+                           .add(new ClassMethodPair(method, entityListener ? type : null, annotationClass));
                 }
             }
         }
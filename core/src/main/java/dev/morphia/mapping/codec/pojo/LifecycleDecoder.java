@@ -1,57 +1,87 @@
 package dev.morphia.mapping.codec.pojo;
 
+import dev.morphia.Datastore;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import org.bson.BsonReader;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
 
 import static java.lang.String.format;
 
 /**
+ * Decodes entities with lifecycle events.  Entities are read directly from the source reader unless a lifecycle method or interceptor
+ * uses the Document form of the entity.  A Document needed only by {@code @PostLoad} events is built from a copy of the raw bytes once the
+ * entity has been read.
+ *
  * @param <T> the type
  * @morphia.internal
  * @since 2.2
  */
 public class LifecycleDecoder<T> extends EntityDecoder<T> {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+    private final EntityDecoder<T> delegate;
+
     /**
-     * creates the decoder
+     * creates the decoder.  The properties themselves are read by the decoder currently configured on the codec.
      *
      * @param codec the codec
      */
     public LifecycleDecoder(MorphiaCodec<T> codec) {
         super(codec);
+        EntityDecoder<T> decoder = codec.getDecoder();
+        delegate = decoder instanceof LifecycleDecoder ? ((LifecycleDecoder<T>) decoder).delegate : decoder;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
-        EntityModel model = getMorphiaCodec().getEntityModel();
-        if (model.useDiscriminator()) {
-            String discriminator = document.getString(model.getDiscriminatorKey());
-            if (discriminator != null) {
-                Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
+        MorphiaCodec<T> morphiaCodec = getMorphiaCodec();
+        CodecRegistry registry = morphiaCodec.getRegistry();
+        EntityModel model = morphiaCodec.getEntityModel();
+        if (!decoderContext.hasCheckedDiscriminator()) {
+            Codec<T> codec = getCodecFromDocument(reader, model.useDiscriminator(), model.getDiscriminatorKey(), registry,
+                morphiaCodec.getDiscriminatorLookup(), morphiaCodec);
+            if (codec instanceof MorphiaCodec) {
                 // need to load the codec to initialize cachedCodecs in field models
-                Codec<?> codec = getMorphiaCodec().getRegistry().get(discriminatorClass);
-                if (codec instanceof MorphiaCodec) {
-                    model = ((MorphiaCodec<?>) codec).getEntityModel();
-                } else {
-                    throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", discriminator));
-                }
+                model = ((MorphiaCodec<?>) codec).getEntityModel();
+            } else {
+                throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", codec.getEncoderClass()));
             }
         }
+        Datastore datastore = morphiaCodec.getDatastore();
         final MorphiaInstanceCreator instanceCreator = model.getInstanceCreator();
         T entity = (T) instanceCreator.getInstance();
-        model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getDatastore());
-        decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
-        model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getDatastore());
+
+        if (model.usesDocument(PreLoad.class)) {
+            // @PreLoad methods may alter the document before the entity is read from it
+            Document document = registry.get(Document.class).decode(reader, decoderContext);
+            model.callLifecycleMethods(PreLoad.class, entity, document, datastore);
+            delegate.decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
+            model.callLifecycleMethods(PostLoad.class, entity, document, datastore);
+        } else if (model.usesDocument(PostLoad.class)) {
+            RawBsonDocument raw = RAW_CODEC.decode(reader, decoderContext);
+            model.callLifecycleMethods(PreLoad.class, entity, null, datastore);
+            try (BsonReader rawReader = raw.asBsonReader()) {
+                delegate.decodeProperties(rawReader, decoderContext, instanceCreator, model);
+            }
+            try (BsonReader rawReader = raw.asBsonReader()) {
+                Document document = registry.get(Document.class).decode(rawReader, DecoderContext.builder().build());
+                model.callLifecycleMethods(PostLoad.class, entity, document, datastore);
+            }
+        } else {
+            model.callLifecycleMethods(PreLoad.class, entity, null, datastore);
+            delegate.decodeProperties(reader, decoderContext, instanceCreator, model);
+            model.callLifecycleMethods(PostLoad.class, entity, null, datastore);
+        }
 
         return entity;
     }
-
 }
@@ -9,18 +9,25 @@ import org.bson.Document;
 import org.bson.codecs.EncoderContext;
 
 /**
+ * Encodes entities with lifecycle events.  Entities are written directly to the target writer unless a lifecycle method or interceptor
+ * uses the Document form of the entity in which case the Document is built first and then written.
+ *
  * @param <T> the entity type
  * @morphia.internal
  * @since 2.2
  */
 public class LifecycleEncoder<T> extends EntityEncoder<T> {
+    private final EntityEncoder<T> delegate;
+
     /**
-     * Creates a new encoder
+     * Creates a new encoder.  The properties themselves are written by the encoder currently configured on the codec.
      *
      * @param morphiaCodec the codec
      */
     public LifecycleEncoder(MorphiaCodec<T> morphiaCodec) {
         super(morphiaCodec);
+        EntityEncoder<T> encoder = morphiaCodec.getEncoder();
+        delegate = encoder instanceof LifecycleEncoder ? ((LifecycleEncoder<T>) encoder).delegate : encoder;
     }
 
     @Override
@@ -28,15 +35,21 @@ public class LifecycleEncoder<T> extends EntityEncoder<T> {
         EntityModel model = getMorphiaCodec().getEntityModel();
         Datastore datastore = getMorphiaCodec().getDatastore();
 
+        if (!model.usesDocument(PrePersist.class) && !model.usesDocument(PostPersist.class)) {
+            model.callLifecycleMethods(PrePersist.class, value, null, datastore);
+            delegate.encode(writer, value, encoderContext);
+            model.callLifecycleMethods(PostPersist.class, value, null, datastore);
+            return;
+        }
+
         Document document = new Document();
         model.callLifecycleMethods(PrePersist.class, value, document, datastore);
 
         final DocumentWriter documentWriter = new DocumentWriter(datastore.getMapper(), document);
-        super.encode(documentWriter, value, encoderContext);
+        delegate.encode(documentWriter, value, encoderContext);
         document = documentWriter.getDocument();
         model.callLifecycleMethods(PostPersist.class, value, document, datastore);
 
         getMorphiaCodec().getRegistry().get(Document.class).encode(writer, document, encoderContext);
     }
-
 }
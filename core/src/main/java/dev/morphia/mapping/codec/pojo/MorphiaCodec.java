@@ -1,11 +1,14 @@
 package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.Datastore;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.PropertyCodecRegistryImpl;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
 import org.bson.BsonReader;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
@@ -39,8 +42,10 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final Datastore datastore;
+    private final boolean trackChanges;
     private EntityEncoder<T> encoder;
     private EntityDecoder<T> decoder;
+    private final EntityEncoder<T> snapshotEncoder;
 
     /**
      * Creates a new codec
@@ -61,12 +66,53 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         this.registry = fromRegistries(fromCodecs(this), registry);
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         idProperty = model.getIdProperty();
+        trackChanges = datastore.getMapper().getOptions().isTrackChanges();
+        snapshotEncoder = new EntityEncoder<>(this);
         specializePropertyCodecs();
     }
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        return getDecoder().decode(reader, decoderContext);
+        T entity = getDecoder().decode(reader, decoderContext);
+        if (decoderContext.hasCheckedDiscriminator() || entity == null) {
+            return entity;
+        }
+        return loaded(entity);
+    }
+
+    /**
+     * Hands an entity just read from the server to the current session's identity map and records its state if changes are tracked.
+     * {@link #decode(BsonReader, DecoderContext)} does this itself unless the discriminator was already checked by the caller, in which
+     * case the caller is expected to once it has the entity.
+     *
+     * @param entity the entity read
+     * @return the entity to hand out, which is the session's instance if the session already holds one for the same document
+     * @morphia.internal
+     * @since 2.3
+     */
+    public T loaded(T entity) {
+        if (entityModel.getEntityAnnotation() == null) {
+            return entity;
+        }
+        IdentityMap identityMap = IdentityMap.current();
+        if (identityMap != null) {
+            EntityModel model = getMapper().getEntityModel(entity.getClass());
+            Object id = getMapper().getId(entity);
+            if (id != null && model.getCollectionName() != null) {
+                T known = identityMap.canonical(model.getCollectionName(), id, entity);
+                if (known != entity) {
+                    // the session's instance wins and its tracked state stays as it was
+                    return known;
+                }
+            }
+        }
+        if (trackChanges) {
+            Codec<T> codec = (Codec<T>) registry.get(entity.getClass());
+            if (codec instanceof MorphiaCodec) {
+                ((MorphiaCodec<T>) codec).track(entity);
+            }
+        }
+        return entity;
     }
 
     @Override
@@ -79,6 +125,34 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return (Class<T>) getEntityModel().getType();
     }
 
+    /**
+     * Records the current state of an entity so that later saves only write what changed.  Lifecycle events are not run.
+     *
+     * @param entity the entity
+     * @morphia.internal
+     * @see dev.morphia.mapping.MapperOptions#isTrackChanges()
+     * @since 2.3
+     */
+    public void track(T entity) {
+        if (entityModel.getEntityAnnotation() != null) {
+            getMapper().getChangeTracker().put(entity, snapshot(entity));
+        }
+    }
+
+    /**
+     * Encodes an entity as it would be stored.  Lifecycle events are not run.
+     *
+     * @param entity the entity
+     * @return the encoded entity
+     * @morphia.internal
+     * @since 2.3
+     */
+    public BsonDocument snapshot(T entity) {
+        BsonDocument snapshot = new BsonDocument();
+        snapshotEncoder.encode(new BsonDocumentWriter(snapshot), entity, EncoderContext.builder().build());
+        return snapshot;
+    }
+
     @Override
     public Object generateIdIfAbsentFromDocument(Object entity) {
         if (!documentHasId(entity)) {
@@ -0,0 +1,466 @@
+package dev.morphia.mapping.codec.pojo.experimental;
+
+import dev.morphia.annotations.AlsoLoad;
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Transient;
+import dev.morphia.annotations.Version;
+import dev.morphia.annotations.internal.MorphiaExperimental;
+import dev.morphia.mapping.Mapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+
+/**
+ * Generates a {@link dev.morphia.mapping.codec.pojo.MorphiaCodec} for each {@link Entity} and {@link Embedded} type in a compilation.
+ * The generated codecs write each property under its precomputed mapped name and read documents with a switch over the stored names,
+ * accessing fields directly wherever the generated code can see them.  Fields that are not visible to the generated code, e.g.
+ * {@code private} fields, still go through the property's accessor.
+ * <p>
+ * This processor is not registered automatically.  It is enabled by naming it explicitly, e.g. via the {@code -processor} option to
+ * {@code javac} or the {@code annotationProcessors} setting of the maven compiler plugin.  Each generated codec is registered as a
+ * {@link GeneratedCodecFactory} service and is used by a Datastore only when the runtime mapping of the type matches what was seen at
+ * build time.  Any other type falls back to the reflective codecs.
+ *
+ * @morphia.experimental
+ * @since 2.3
+ */
+@MorphiaExperimental
+@SupportedAnnotationTypes({"dev.morphia.annotations.Entity", "dev.morphia.annotations.Embedded"})
+public class EntityCodecProcessor extends AbstractProcessor {
+    /**
+     * The suffix appended to an entity's name to name its generated codec
+     */
+    public static final String SUFFIX = "_MorphiaCodec";
+    private static final String SERVICE_FILE = "META-INF/services/" + GeneratedCodecFactory.class.getName();
+
+    private final Set<String> factories = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> entities = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && isSupported((TypeElement) element)) {
+                    entities.add((TypeElement) element);
+                }
+            }
+        }
+        for (TypeElement entity : entities) {
+            try {
+                generate(entity);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Kind.ERROR, format("Could not generate a codec for %s: %s",
+                    entity.getQualifiedName(), e.getMessage()), entity);
+            }
+        }
+        return false;
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static String mappedName(VariableElement field) {
+        Property property = field.getAnnotation(Property.class);
+        Reference reference = field.getAnnotation(Reference.class);
+        Version version = field.getAnnotation(Version.class);
+        if (field.getAnnotation(Id.class) != null) {
+            return "_id";
+        } else if (property != null && !property.value().equals(Mapper.IGNORED_FIELDNAME)) {
+            return property.value();
+        } else if (reference != null && !reference.value().equals(Mapper.IGNORED_FIELDNAME)) {
+            return reference.value();
+        } else if (version != null && !version.value().equals(Mapper.IGNORED_FIELDNAME)) {
+            return version.value();
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private List<VariableElement> collectFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())
+               && current.getKind() != ElementKind.ENUM) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)
+                    && field.getAnnotation(Transient.class) == null
+                    && names.add(field.getSimpleName().toString())) {
+                    fields.add(field);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                      ? (TypeElement) processingEnv.getTypeUtils().asElement(superclass)
+                      : null;
+        }
+        return fields;
+    }
+
+    private boolean directlyInstantiable(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        return constructors.size() == 1
+               && constructors.get(0).getParameters().isEmpty()
+               && !constructors.get(0).getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    private void generate(TypeElement entity) throws IOException {
+        String packageName = packageOf(entity).getQualifiedName().toString();
+        String entityName = typeName(entity);
+        String codecName = entity.getQualifiedName().toString()
+                                 .substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                                 .replace('.', '_') + SUFFIX;
+        String qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        List<VariableElement> fields = collectFields(entity);
+        boolean instantiable = directlyInstantiable(entity);
+
+        String idProperty = null;
+        StringJoiner properties = new StringJoiner(", ", "java.util.List.of(", ")");
+        StringJoiner loadNames = new StringJoiner(",\n        ", "java.util.List.of(\n        ", ")");
+        for (VariableElement field : fields) {
+            if (field.getAnnotation(Id.class) != null) {
+                idProperty = field.getSimpleName().toString();
+            }
+            properties.add(literal(field.getSimpleName().toString()));
+            StringJoiner names = new StringJoiner(", ", "java.util.List.of(", ")");
+            for (String name : loadNames(field)) {
+                names.add(literal(name));
+            }
+            loadNames.add(names.toString());
+        }
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedCodecName, entity);
+        try (Writer writer = file.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("@javax.annotation.processing.Generated(%s)%n", literal(getClass().getName()));
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.printf("public final class %s extends dev.morphia.mapping.codec.pojo.MorphiaCodec<%s> {%n", codecName, entityName);
+            out.printf("    private static final java.util.List<String> PROPERTIES = %s;%n", properties);
+            out.printf("    private static final java.util.List<java.util.List<String>> LOAD_NAMES = %s;%n", loadNames);
+            for (int i = 0; i < fields.size(); i++) {
+                out.printf("    private final dev.morphia.mapping.codec.pojo.PropertyModel property%d;%n", i);
+            }
+            out.println();
+            out.printf("    private %s(dev.morphia.Datastore datastore, dev.morphia.mapping.codec.pojo.EntityModel model,%n", codecName);
+            out.println("            java.util.List<org.bson.codecs.pojo.PropertyCodecProvider> propertyCodecProviders,");
+            out.println("            org.bson.codecs.configuration.CodecRegistry registry) {");
+            out.println("        super(datastore, model, propertyCodecProviders, datastore.getMapper().getDiscriminatorLookup(), "
+                        + "registry);");
+            out.println("        java.util.List<dev.morphia.mapping.codec.pojo.PropertyModel> properties = model.getProperties();");
+            for (int i = 0; i < fields.size(); i++) {
+                out.printf("        property%d = properties.get(%d);%n", i, i);
+            }
+            out.println("        setEncoder(new Encoder());");
+            out.println("        setDecoder(new Decoder());");
+            out.println("    }");
+            out.println();
+            writeFactory(out, codecName, entityName, idProperty);
+            writeEncoder(out, codecName, entityName, entity, fields);
+            writeDecoder(out, codecName, entityName, entity, fields, instantiable);
+            if (instantiable) {
+                writeCreator(out, entityName);
+            }
+            out.println("}");
+        }
+        factories.add(qualifiedCodecName + "$Factory");
+    }
+
+    private boolean isAccessible(TypeElement entity, VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC)
+               || packageOf(field).getQualifiedName().contentEquals(packageOf(entity).getQualifiedName());
+    }
+
+    private boolean isSupported(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement element = (TypeElement) current;
+            if (element.getModifiers().contains(Modifier.PRIVATE)
+                || element.getNestingKind() == NestingKind.LOCAL
+                || element.getNestingKind() == NestingKind.ANONYMOUS
+                || element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private List<String> loadNames(VariableElement field) {
+        List<String> names = new ArrayList<>();
+        names.add(mappedName(field));
+        AlsoLoad alsoLoad = field.getAnnotation(AlsoLoad.class);
+        if (alsoLoad != null) {
+            names.addAll(List.of(alsoLoad.value()));
+        }
+        return names;
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private String typeName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private String typeName(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED:
+                return typeName((TypeElement) ((DeclaredType) erased).asElement());
+            default:
+                return erased.getKind().isPrimitive()
+                       ? erased.getKind().name().toLowerCase()
+                       : Object.class.getName();
+        }
+    }
+
+    private void writeCreator(PrintWriter out, String entityName) {
+        out.println();
+        out.println("    private static final class Creator implements dev.morphia.mapping.codec.MorphiaInstanceCreator {");
+        out.printf("        private final %s entity = new %s();%n", entityName, entityName);
+        out.println();
+        out.println("        @Override");
+        out.println("        public Object getInstance() {");
+        out.println("            return entity;");
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.println("        public void set(Object value, dev.morphia.mapping.codec.pojo.PropertyModel model) {");
+        out.println("            model.setValue(entity, value);");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private void writeDecoder(PrintWriter out, String codecName, String entityName, TypeElement entity, List<VariableElement> fields,
+                              boolean instantiable) {
+        out.println();
+        out.printf("    private final class Decoder extends dev.morphia.mapping.codec.pojo.EntityDecoder<%s> {%n", entityName);
+        out.println("        private Decoder() {");
+        out.printf("            super(%s.this);%n", codecName);
+        out.println("        }");
+        out.println();
+        if (instantiable) {
+            out.println("        @Override");
+            out.println("        protected dev.morphia.mapping.codec.MorphiaInstanceCreator getInstanceCreator() {");
+            out.println("            return new Creator();");
+            out.println("        }");
+            out.println();
+        }
+        out.println("        @Override");
+        out.println("        protected void decodeProperties(org.bson.BsonReader reader, org.bson.codecs.DecoderContext decoderContext,");
+        out.println("                                        dev.morphia.mapping.codec.MorphiaInstanceCreator instanceCreator,");
+        out.println("                                        dev.morphia.mapping.codec.pojo.EntityModel classModel) {");
+        out.println("            if (classModel != getMorphiaCodec().getEntityModel()) {");
+        out.println("                super.decodeProperties(reader, decoderContext, instanceCreator, classModel);");
+        out.println("                return;");
+        out.println("            }");
+        if (instantiable) {
+            out.printf("            %s entity = instanceCreator instanceof Creator ? ((Creator) instanceCreator).entity : null;%n",
+                entityName);
+        }
+        out.println("            dev.morphia.mapping.codec.references.ReferenceBatch batch = "
+                    + "dev.morphia.mapping.codec.references.ReferenceBatch.current();");
+        out.println("            int mark = batch != null ? batch.mark() : 0;");
+        out.println("            reader.readStartDocument();");
+        out.println("            while (reader.readBsonType() != org.bson.BsonType.END_OF_DOCUMENT) {");
+        out.println("                String name = reader.readName();");
+        out.println("                switch (name) {");
+
+        // mirrors EntityModel.getProperty():  later mapped names replace earlier ones and java names only match otherwise unclaimed names
+        Map<String, Integer> owners = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            for (String name : loadNames(fields.get(i))) {
+                owners.put(name, i);
+            }
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            owners.putIfAbsent(fields.get(i).getSimpleName().toString(), i);
+        }
+        List<List<String>> cases = new ArrayList<>();
+        fields.forEach(field -> cases.add(new ArrayList<>()));
+        owners.forEach((name, index) -> cases.get(index).add(name));
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (cases.get(i).isEmpty()) {
+                continue;
+            }
+            VariableElement field = fields.get(i);
+            for (String label : cases.get(i)) {
+                out.printf("                    case %s:%n", literal(label));
+            }
+            if (instantiable && isAccessible(entity, field) && !field.getModifiers().contains(Modifier.FINAL)
+                && (field.asType().getKind() != TypeKind.ARRAY || typeName(field.asType()).equals("byte[]"))) {
+                TypeMirror type = memberType(entity, field);
+                String castType = type.getKind().isPrimitive()
+                                  ? typeName(processingEnv.getTypeUtils().boxedClass((PrimitiveType) type))
+                                  : typeName(type);
+                out.println("                        if (reader.getCurrentBsonType() == org.bson.BsonType.NULL) {");
+                out.println("                            reader.readNull();");
+                out.println("                        } else {");
+                out.printf("                            Object value = decodeValue(reader, decoderContext, property%d);%n", i);
+                out.printf("                            if (entity != null && value instanceof %s) {%n", castType);
+                out.printf("                                entity.%s = (%s) value;%n", field.getSimpleName(), castType);
+                out.println("                            } else {");
+                out.printf("                                instanceCreator.set(value, property%d);%n", i);
+                out.println("                            }");
+                out.println("                        }");
+            } else {
+                out.printf("                        decodeModel(reader, decoderContext, instanceCreator, property%d);%n", i);
+            }
+            out.println("                        break;");
+        }
+        out.println("                    default:");
+        out.println("                        if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {");
+        out.println("                            reader.readString();");
+        out.println("                        } else {");
+        out.println("                            reader.skipValue();");
+        out.println("                        }");
+        out.println("                }");
+        out.println("            }");
+        out.println("            reader.readEndDocument();");
+        out.println("            if (batch != null) {");
+        out.println("                batch.bind(mark, instanceCreator);");
+        out.println("            }");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private void writeEncoder(PrintWriter out, String codecName, String entityName, TypeElement entity, List<VariableElement> fields) {
+        out.println();
+        out.printf("    private final class Encoder extends dev.morphia.mapping.codec.pojo.EntityEncoder<%s> {%n", entityName);
+        out.println("        private Encoder() {");
+        out.printf("            super(%s.this);%n", codecName);
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.printf("        protected void encodeProperties(org.bson.BsonWriter writer, %s value, "
+                   + "org.bson.codecs.EncoderContext encoderContext) {%n", entityName);
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            if (field.getAnnotation(Id.class) != null) {
+                continue;
+            }
+            String read = isAccessible(entity, field)
+                          ? "value." + field.getSimpleName()
+                          : format("property%d.getAccessor().get(value)", i);
+            out.printf("            encodeValue(writer, encoderContext, property%d, %s);%n", i, read);
+        }
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private void writeFactory(PrintWriter out, String codecName, String entityName, String idProperty) {
+        out.println("    /**");
+        out.printf("     * Creates the generated codec for {@link %s}%n", entityName);
+        out.println("     */");
+        out.println("    public static final class Factory implements dev.morphia.mapping.codec.pojo.experimental.GeneratedCodecFactory {");
+        out.println("        @Override");
+        out.println("        public <T> dev.morphia.mapping.codec.pojo.MorphiaCodec<T> create(dev.morphia.Datastore datastore,");
+        out.println("                dev.morphia.mapping.codec.pojo.EntityModel model,");
+        out.println("                java.util.List<org.bson.codecs.pojo.PropertyCodecProvider> propertyCodecProviders,");
+        out.println("                org.bson.codecs.configuration.CodecRegistry registry) {");
+        out.printf("            return (dev.morphia.mapping.codec.pojo.MorphiaCodec) "
+                   + "new %s(datastore, model, propertyCodecProviders, registry);%n", codecName);
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.println("        public String getIdProperty() {");
+        out.printf("            return %s;%n", idProperty != null ? literal(idProperty) : "null");
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.println("        public java.util.List<java.util.List<String>> getLoadNames() {");
+        out.println("            return LOAD_NAMES;");
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.println("        public java.util.List<String> getProperties() {");
+        out.println("            return PROPERTIES;");
+        out.println("        }");
+        out.println();
+        out.println("        @Override");
+        out.println("        public Class<?> getType() {");
+        out.printf("            return %s.class;%n", entityName);
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private TypeMirror memberType(TypeElement entity, VariableElement field) {
+        // generic entities are referenced by their raw types so their fields are seen with their erased types
+        return entity.getTypeParameters().isEmpty()
+               ? processingEnv.getTypeUtils().asMemberOf((DeclaredType) entity.asType(), field)
+               : field.asType();
+    }
+
+    private void writeServiceFile() {
+        if (factories.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = resource.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+                factories.forEach(out::println);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, format("Could not write %s: %s", SERVICE_FILE, e.getMessage()));
+        }
+    }
+}
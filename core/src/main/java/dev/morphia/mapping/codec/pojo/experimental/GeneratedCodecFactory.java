@@ -0,0 +1,61 @@
+package dev.morphia.mapping.codec.pojo.experimental;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.internal.MorphiaExperimental;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PropertyCodecProvider;
+
+import java.util.List;
+
+/**
+ * Defines a factory for a codec generated at build time by {@link EntityCodecProcessor}.  Implementations are discovered via the
+ * {@link java.util.ServiceLoader} and are only used when the runtime mapping of a type matches the mapping seen at build time.
+ * <p>
+ * NOTE:  This interface is marked as an internal interface but is intended for use in more advanced scenarios.  While this API should
+ * remain relatively stable over time, breaking changes might happen occasionally.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+@MorphiaInternal
+@MorphiaExperimental
+public interface GeneratedCodecFactory {
+    /**
+     * Creates the codec.
+     *
+     * @param datastore              the datastore to use
+     * @param model                  the runtime model of the type
+     * @param propertyCodecProviders the codec providers for properties
+     * @param registry               the codec registry for lookups
+     * @param <T>                    the entity type
+     * @return the new codec
+     */
+    <T> MorphiaCodec<T> create(Datastore datastore, EntityModel model, List<PropertyCodecProvider> propertyCodecProviders,
+                               CodecRegistry registry);
+
+    /**
+     * @return the name of the ID property seen at build time or null if the type has none
+     */
+    @Nullable
+    String getIdProperty();
+
+    /**
+     * @return the names each property can be loaded from, in the same order as {@link #getProperties()}.  The first name of each
+     *     entry is the mapped name of the property.
+     */
+    List<List<String>> getLoadNames();
+
+    /**
+     * @return the property names, in mapping order, seen at build time
+     */
+    List<String> getProperties();
+
+    /**
+     * @return the type handled by the generated codec
+     */
+    Class<?> getType();
+}
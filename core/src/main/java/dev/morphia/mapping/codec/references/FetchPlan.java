@@ -0,0 +1,114 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.query.ValidationException;
+import dev.morphia.sofia.Sofia;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defines which references of a query's results should be fetched.  Each path names a reference property, possibly reached through
+ * embedded types, and may continue past the reference to name references on the referenced entities, e.g. {@code items.product.vendor}.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class FetchPlan {
+    private final List<Step> steps = new ArrayList<>();
+
+    private FetchPlan() {
+    }
+
+    /**
+     * Creates a plan for a type
+     *
+     * @param mapper the mapper to use
+     * @param model  the model of the queried type
+     * @param paths  the reference paths to fetch
+     * @return the plan
+     * @throws ValidationException if a path does not lead to a reference
+     */
+    public static FetchPlan of(Mapper mapper, EntityModel model, List<String> paths) {
+        FetchPlan plan = new FetchPlan();
+        for (String path : paths) {
+            String[] segments = path.split("\\.");
+            EntityModel current = model;
+            for (int i = 0; i < segments.length; i++) {
+                PropertyModel property = current.getProperty(segments[i]);
+                if (property == null) {
+                    throw new ValidationException(Sofia.invalidPathTarget(path, model.getType().getName(), segments[i]));
+                }
+                if (property.isReference() || MorphiaReference.class.isAssignableFrom(property.getType())) {
+                    Step step = plan.step(current, property);
+                    if (i + 1 < segments.length) {
+                        step.nested.add(String.join(".", List.of(segments).subList(i + 1, segments.length)));
+                    }
+                    break;
+                }
+                if (i + 1 == segments.length || !mapper.isMappable(property.getNormalizedType())) {
+                    throw new ValidationException(Sofia.invalidPrefetchPath(path, model.getType().getName()));
+                }
+                current = mapper.getEntityModel(property.getNormalizedType());
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * @param property the reference property
+     * @return true if the property should be fetched
+     */
+    public boolean includes(PropertyModel property) {
+        return find(property) != null;
+    }
+
+    /**
+     * @param property the reference property
+     * @return the paths to fetch on the entities referenced by the property
+     */
+    public Set<String> nested(PropertyModel property) {
+        Step step = find(property);
+        return step != null ? step.nested : Set.of();
+    }
+
+    @Nullable
+    private Step find(PropertyModel property) {
+        // subtypes have their own models so match on the type declaring the plan rather than on the model instance
+        Class<?> owner = property.getEntityModel().getType();
+        for (Step step : steps) {
+            if (step.name.equals(property.getName()) && step.owner.isAssignableFrom(owner)) {
+                return step;
+            }
+        }
+        return null;
+    }
+
+    private Step step(EntityModel model, PropertyModel property) {
+        for (Step step : steps) {
+            if (step.owner.equals(model.getType()) && step.name.equals(property.getName())) {
+                return step;
+            }
+        }
+        Step step = new Step(model.getType(), property.getName());
+        steps.add(step);
+        return step;
+    }
+
+    private static class Step {
+        private final Class<?> owner;
+        private final String name;
+        private final Set<String> nested = new LinkedHashSet<>();
+
+        Step(Class<?> owner, String name) {
+            this.owner = owner;
+            this.name = name;
+        }
+    }
+}
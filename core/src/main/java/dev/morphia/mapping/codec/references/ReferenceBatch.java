@@ -0,0 +1,199 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.internal.IdentityMap;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * Collects the eager references of the entities decoded while reading a batch of results so that they can be fetched with one query per
+ * referenced collection rather than with one query per entity.  A batch is bound to the current thread for the duration of
+ * {@link #resolving(Datastore, FetchPlan, Supplier)} which is how the driver's decoding of a batch is scoped.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+public final class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final Datastore datastore;
+    @Nullable
+    private final FetchPlan plan;
+    private final List<Pending> pending = new ArrayList<>();
+
+    private ReferenceBatch(Datastore datastore, @Nullable FetchPlan plan) {
+        this.datastore = datastore;
+        this.plan = plan;
+    }
+
+    /**
+     * @return the batch collecting references on this thread or null if references should be resolved immediately
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an operation which might decode entities and resolves any references deferred while doing so once it completes.
+     *
+     * @param datastore the datastore to fetch the referenced entities with
+     * @param plan      the references to fetch or null to fetch all the eager references
+     * @param operation the operation to run
+     * @param <V>       the operation's result type
+     * @return the result of the operation
+     */
+    public static <V> V resolving(Datastore datastore, @Nullable FetchPlan plan, Supplier<V> operation) {
+        ReferenceBatch previous = CURRENT.get();
+        ReferenceBatch batch = new ReferenceBatch(datastore, plan);
+        CURRENT.set(batch);
+        V result;
+        try {
+            result = operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        batch.resolve();
+        return result;
+    }
+
+    /**
+     * Binds any deferred references registered since the mark to the entity being created by the given creator.
+     *
+     * @param mark    the mark taken before the entity's properties were decoded
+     * @param creator the creator of the entity
+     * @see #mark()
+     */
+    public void bind(int mark, MorphiaInstanceCreator creator) {
+        for (int i = mark; i < pending.size(); i++) {
+            Pending entry = pending.get(i);
+            if (entry.creator == null) {
+                entry.creator = creator;
+            }
+        }
+    }
+
+    /**
+     * Defers the resolution of a reference until the end of the batch.  A {@link MorphiaReference} property keeps its reference which is
+     * resolved in place while any other property is given the resolved entities.
+     *
+     * @param model     the property holding the reference
+     * @param reference the reference to resolve
+     */
+    public void defer(PropertyModel model, MorphiaReference<?> reference) {
+        pending.add(new Pending(model, reference));
+    }
+
+    /**
+     * Checks whether a reference should be fetched along with the rest of the batch.  Without a fetch plan every eager reference is.
+     *
+     * @param model the property holding the reference
+     * @param lazy  true if the property is configured to be loaded lazily
+     * @return true if the reference should be fetched
+     */
+    public boolean fetches(PropertyModel model, boolean lazy) {
+        return plan != null ? plan.includes(model) : !lazy;
+    }
+
+    /**
+     * Marks the start of the decoding of an entity.  Nested entities are bound before their parents so only the references deferred
+     * after this point and not yet bound belong to the entity.
+     *
+     * @return the mark
+     */
+    public int mark() {
+        return pending.size();
+    }
+
+    private void resolve() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Set<Object>> collections = new LinkedHashMap<>();
+        Map<String, Set<String>> nested = new HashMap<>();
+        for (Pending entry : pending) {
+            Map<String, Set<Object>> ids = new LinkedHashMap<>();
+            entry.reference.collectIds(ids);
+            for (Entry<String, Set<Object>> collection : ids.entrySet()) {
+                collections.computeIfAbsent(collection.getKey(), k -> new LinkedHashSet<>()).addAll(collection.getValue());
+                if (plan != null) {
+                    nested.computeIfAbsent(collection.getKey(), k -> new LinkedHashSet<>()).addAll(plan.nested(entry.model));
+                }
+            }
+        }
+
+        IdentityMap identityMap = IdentityMap.current();
+        Map<String, Map<Object, Object>> entities = new HashMap<>();
+        for (Entry<String, Set<Object>> entry : collections.entrySet()) {
+            Map<Object, Object> fetched = new HashMap<>();
+            entities.put(entry.getKey(), fetched);
+            if (identityMap != null) {
+                // entities the session already holds are handed out as is rather than read again
+                entry.getValue().removeIf(id -> {
+                    Object known = identityMap.get(entry.getKey(), id);
+                    if (known != null) {
+                        fetched.put(id, known);
+                    }
+                    return known != null;
+                });
+                if (entry.getValue().isEmpty()) {
+                    continue;
+                }
+            }
+            Query<?> query = datastore.find(entry.getKey())
+                                      .disableValidation()
+                                      .filter(in("_id", entry.getValue()));
+            FindOptions options = new FindOptions();
+            if (plan != null) {
+                query.prefetch(nested.get(entry.getKey()).toArray(new String[0]));
+            } else {
+                options.batchReferences(true);
+            }
+            try (MongoCursor<?> cursor = query.iterator(options)) {
+                while (cursor.hasNext()) {
+                    Object entity = cursor.next();
+                    fetched.put(datastore.getMapper().getId(entity), entity);
+                }
+            }
+        }
+
+        for (Pending entry : pending) {
+            entry.reference.resolveFrom(entities);
+            if (entry.creator != null && !MorphiaReference.class.isAssignableFrom(entry.model.getType())) {
+                entry.model.getAccessor().set(entry.creator.getInstance(), entry.reference.get());
+            }
+        }
+    }
+
+    private static class Pending {
+        private final PropertyModel model;
+        private final MorphiaReference<?> reference;
+        private MorphiaInstanceCreator creator;
+
+        Pending(PropertyModel model, MorphiaReference<?> reference) {
+            this.model = model;
+            this.reference = reference;
+        }
+    }
+}
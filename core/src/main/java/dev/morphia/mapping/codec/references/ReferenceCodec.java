@@ -26,8 +26,10 @@ import dev.morphia.query.QueryException;
 import dev.morphia.sofia.Sofia;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.ByteCodeElement;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatcher.Junction;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -40,6 +42,11 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -52,6 +59,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+import static dev.morphia.internal.MorphiaInternals.proxyClassesPresent;
 import static java.lang.String.format;
 
 /**
@@ -59,9 +67,22 @@ import static java.lang.String.format;
  */
 @SuppressWarnings({"unchecked", "removal"})
 public class ReferenceCodec extends BaseReferenceCodec<Object> implements PropertyHandler {
+    private static final String HANDLER_FIELD = "$$morphiaReferenceHandler";
+    /**
+     * Calls made before a proxy's handler is set, i.e. from the entity's own constructor, are ignored
+     */
+    private static final InvocationHandler DISPATCHER = (proxy, method, args) -> {
+        InvocationHandler handler = ((ReferenceProxyAware) proxy).getMorphiaReferenceHandler();
+        if (handler != null) {
+            return handler.invoke(proxy, method, args);
+        }
+        Class<?> returnType = method.getReturnType();
+        return returnType.isPrimitive() && !returnType.equals(void.class) ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+    };
     private final Reference annotation;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
     private final Mapper mapper;
+    private volatile MethodHandle proxyConstructor;
 
     /**
      * Creates a codec
@@ -228,15 +249,44 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     }
 
     private <T> T createProxy(MorphiaReference<?> reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
+        try {
+            Object proxy = (Object) getProxyConstructor().invokeExact();
+            ((ReferenceProxyAware) proxy).setMorphiaReferenceHandler(new ReferenceProxy(reference));
+            return (T) proxy;
+        } catch (MappingException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The proxy class is generated once per codec, i.e. per property, and each proxy carries its reference in an instance field rather
+     * than a class per reference value.
+     */
+    private MethodHandle getProxyConstructor() {
+        MethodHandle constructor = proxyConstructor;
+        if (constructor == null) {
+            synchronized (this) {
+                constructor = proxyConstructor;
+                if (constructor == null) {
+                    constructor = createProxyConstructor();
+                    proxyConstructor = constructor;
+                }
+            }
+        }
+        return constructor;
+    }
+
+    private MethodHandle createProxyConstructor() {
         PropertyModel propertyModel = getPropertyModel();
         try {
             Class<?> type = propertyModel.getType();
             Builder<?> builder = new ByteBuddy()
                 .subclass(type)
-                .implement(MorphiaProxy.class)
-                .name(format("%s$%s$$ReferenceProxy", propertyModel.getEntityModel().getName(), propertyModel.getName(),
-                    type.getName()));
+                .implement(MorphiaProxy.class, ReferenceProxyAware.class)
+                .name(format("%s$%s$$ReferenceProxy", propertyModel.getEntityModel().getName(), propertyModel.getName()))
+                .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE);
 
             Junction<ByteCodeElement> matcher = ElementMatchers.isDeclaredBy(type);
             if (!type.isInterface()) {
@@ -247,17 +297,20 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
                 }
             }
 
-            return (T) builder
+            Class<?> proxyType = builder
                 .invokable(matcher.or(ElementMatchers.isDeclaredBy(MorphiaProxy.class)))
-                .intercept(InvocationHandlerAdapter.of(referenceProxy))
+                .intercept(InvocationHandlerAdapter.of(DISPATCHER))
+                .method(ElementMatchers.isDeclaredBy(ReferenceProxyAware.class))
+                .intercept(FieldAccessor.ofField(HANDLER_FIELD))
 
                 .make()
 
                 .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
-                .getLoaded()
+                .getLoaded();
 
-                .getDeclaredConstructor()
-                .newInstance();
+            return MethodHandles.publicLookup()
+                                .findConstructor(proxyType, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Object.class));
         } catch (ReflectiveOperationException | IllegalArgumentException e) {
             throw new MappingException(e.getMessage(), e);
         }
@@ -320,6 +373,16 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         }
         reference.ignoreMissing(annotation.ignoreMissing());
 
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null && !reference.isResolved()) {
+            if (batch.fetches(getPropertyModel(), annotation.lazy())) {
+                batch.defer(getPropertyModel(), reference);
+                return null;
+            }
+            // not part of the fetch plan so only loaded if it is used.  without proxies it is loaded now rather than left null as a null
+            // would be written back over the stored reference by the next save.
+            return proxyClassesPresent() ? createProxy(reference) : reference.get();
+        }
         return !annotation.lazy() ? reference.get() : createProxy(reference);
     }
 
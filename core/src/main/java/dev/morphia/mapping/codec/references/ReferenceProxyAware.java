@@ -0,0 +1,28 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * Implemented by the generated lazy reference proxy types so that a single generated class can serve every reference of a property.
+ *
+ * @morphia.internal
+ * @since 2.3
+ */
+@MorphiaInternal
+public interface ReferenceProxyAware {
+    /**
+     * @return the handler for the calls on this proxy or null if it has not been set yet
+     */
+    @Nullable
+    InvocationHandler getMorphiaReferenceHandler();
+
+    /**
+     * Sets the handler for the calls on this proxy
+     *
+     * @param handler the handler
+     */
+    void setMorphiaReferenceHandler(InvocationHandler handler);
+}
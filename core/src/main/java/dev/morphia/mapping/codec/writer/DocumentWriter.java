@@ -352,6 +352,17 @@ public class DocumentWriter implements BsonWriter {
         state.value(value);
     }
 
+    /**
+     * Writes a value in to the document as is without encoding it first.
+     *
+     * @param value the value
+     * @morphia.internal
+     * @since 2.3
+     */
+    public void writeUnencoded(Object value) {
+        state.value(value);
+    }
+
     @Override
     public void writeUndefined() {
         state.value(new BsonUndefined());
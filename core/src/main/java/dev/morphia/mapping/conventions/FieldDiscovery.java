@@ -6,12 +6,14 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.ArrayFieldAccessor;
 import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.VarHandleAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import dev.morphia.sofia.Sofia;
 import org.bson.codecs.pojo.PropertyAccessor;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,7 +35,7 @@ public class FieldDiscovery implements MorphiaConvention {
                                .name(field.getName())
                                .typeData(typeData)
                                .annotations(List.of(field.getDeclaredAnnotations()))
-                               .accessor(getAccessor(getTargetField(builder, field), typeData))
+                               .accessor(getAccessor(mapper, getTargetField(builder, field), typeData))
                                .modifiers(field.getModifiers())
                                .discoverMappedName();
                     } catch (NoSuchFieldException e) {
@@ -53,9 +55,21 @@ public class FieldDiscovery implements MorphiaConvention {
         return builder.targetType().getDeclaredField(field.getName());
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, TypeData<?> typeData) {
+    private PropertyAccessor<? super Object> getAccessor(Mapper mapper, Field field, TypeData<?> typeData) {
+        FieldAccessor accessor = getFieldAccessor(mapper, field);
         return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-               ? new ArrayFieldAccessor(typeData, field)
-               : new FieldAccessor(field);
+               ? new ArrayFieldAccessor(typeData, accessor)
+               : accessor;
+    }
+
+    private FieldAccessor getFieldAccessor(Mapper mapper, Field field) {
+        if (!mapper.getOptions().isReflectiveAccess() && !Modifier.isStatic(field.getModifiers())) {
+            try {
+                return new VarHandleAccessor(field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                Sofia.logReflectiveAccessFallback(field, e.getMessage());
+            }
+        }
+        return new FieldAccessor(field);
     }
 }
@@ -5,10 +5,12 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.MethodAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import dev.morphia.sofia.Sofia;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bson.codecs.pojo.PropertyAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -23,12 +25,14 @@ import java.util.stream.Collectors;
 @MorphiaInternal
 public class MethodDiscovery implements MorphiaConvention {
     private EntityModelBuilder entityModelBuilder;
+    private Mapper mapper;
 
     @Override
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public void apply(Mapper mapper, EntityModelBuilder builder) {
         if (builder.propertyModels().isEmpty()) {
             this.entityModelBuilder = builder;
+            this.mapper = mapper;
 
             List<Class<?>> list = new ArrayList<>(List.of(builder.type()));
             list.addAll(builder.classHierarchy());
@@ -44,6 +48,17 @@ public class MethodDiscovery implements MorphiaConvention {
                    .collect(Collectors.toList());
     }
 
+    private PropertyAccessor<? super Object> getAccessor(Method getter, Method setter) {
+        if (!mapper.getOptions().isReflectiveAccess()) {
+            try {
+                return new MethodHandleAccessor(getter, setter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                Sofia.logReflectiveAccessFallback(getter, e.getMessage());
+            }
+        }
+        return new MethodAccessor(getter, setter);
+    }
+
     @NonNull
     private Method getTargetMethod(EntityModelBuilder builder, @NonNull Method method) {
         try {
@@ -88,7 +103,7 @@ public class MethodDiscovery implements MorphiaConvention {
 
                 entityModelBuilder.addProperty()
                                   .name(entry.getKey())
-                                  .accessor(new MethodAccessor(getTargetMethod(builder, methods.getter),
+                                  .accessor(getAccessor(getTargetMethod(builder, methods.getter),
                                       getTargetMethod(builder, methods.setter)))
                                   .annotations(discoverAnnotations(methods.getter, methods.setter))
                                   .typeData(typeData)
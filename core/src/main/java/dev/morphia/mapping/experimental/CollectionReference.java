@@ -1,7 +1,6 @@
 package dev.morphia.mapping.experimental;
 
 import com.mongodb.DBRef;
-import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -12,14 +11,15 @@ import dev.morphia.sofia.Sofia;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static dev.morphia.query.experimental.filters.Filters.in;
 import static java.util.Arrays.asList;
 
 /**
@@ -118,16 +118,16 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
         return ids;
     }
 
-    private List<Object> mapIds(List list, Map<Object, Object> idMap) {
+    private List<Object> mapIds(List list, Map<String, Map<Object, Object>> entities) {
         final List<Object> values = new ArrayList<>(asList(new Object[list.size()]));
         for (int i = 0; i < list.size(); i++) {
             final Object id = list.get(i);
 
             final Object value;
             if (id instanceof List) {
-                value = mapIds((List) id, idMap);
+                value = mapIds((List) id, entities);
             } else {
-                value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
+                value = lookup(entities, entityModel, id);
             }
             if (value != null) {
                 values.set(i, value);
@@ -138,11 +138,11 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     }
 
     final List find() {
-        HashMap<Object, Object> idMap = new HashMap<>();
+        Map<String, Map<Object, Object>> entities = new HashMap<>();
         for (Entry<String, List<Object>> entry : collections.entrySet()) {
-            idMap.putAll(query(entry.getKey(), extractIds(entry.getValue())));
+            entities.put(entry.getKey(), query(entry.getKey(), extractIds(entry.getValue())));
         }
-        List values = mapIds(ids, idMap).stream()
+        List values = mapIds(ids, entities).stream()
                                         .filter(Objects::nonNull)
                                         .collect(Collectors.toList());
         resolve();
@@ -151,22 +151,39 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
 
     abstract Collection<?> getValues();
 
-    Map<Object, Object> query(String collection, List<Object> collectionIds) {
-
-        final Map<Object, Object> idMap = new HashMap<>();
-        try (MongoCursor<?> cursor = getDatastore().find(collection)
-                                                   .disableValidation()
-                                                   .filter(in("_id", collectionIds)).iterator()) {
-            while (cursor.hasNext()) {
-                final Object entity = cursor.next();
-                idMap.put(getMapper().getId(entity), entity);
+    @Override
+    public void collectIds(Map<String, Set<Object>> collections) {
+        if (getValues() == null && ids != null) {
+            for (Entry<String, List<Object>> entry : this.collections.entrySet()) {
+                collections.computeIfAbsent(entry.getKey(), k -> new HashSet<>())
+                           .addAll(extractIds(entry.getValue()));
             }
+        }
+    }
 
-            if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
-                throw new ReferenceException(
-                    Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
-
+    @Override
+    public void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (getValues() == null && ids != null) {
+            if (!ignoreMissing()) {
+                for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                    Map<Object, Object> fetched = entities.getOrDefault(entry.getKey(), Map.of());
+                    if (!extractIds(entry.getValue()).stream().allMatch(fetched::containsKey)) {
+                        throw new ReferenceException(
+                            Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+                    }
+                }
             }
+            setValues(mapIds(ids, entities).stream()
+                                           .filter(Objects::nonNull)
+                                           .collect(Collectors.toList()));
+        }
+    }
+
+    Map<Object, Object> query(String collection, List<Object> collectionIds) {
+        final Map<Object, Object> idMap = read(collection, collectionIds);
+        if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
+            throw new ReferenceException(
+                Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
         }
 
         return idMap;
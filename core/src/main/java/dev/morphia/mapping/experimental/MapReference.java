@@ -1,7 +1,6 @@
 package dev.morphia.mapping.experimental;
 
 import com.mongodb.DBRef;
-import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -11,13 +10,13 @@ import org.bson.Document;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
-
-import static dev.morphia.query.experimental.filters.Filters.in;
+import java.util.Set;
 
 /**
  * @param <T>
@@ -27,6 +26,7 @@ import static dev.morphia.query.experimental.filters.Filters.in;
 public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
     private Map<String, Object> ids;
     private Map<Object, T> values;
+    private EntityModel entityModel;
     private final Map<String, List<Object>> collections = new HashMap<>();
 
     /**
@@ -42,6 +42,7 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
             CollectionReference.collate(entityModel, collections, entry.getValue());
         }
         this.ids = ids;
+        this.entityModel = entityModel;
     }
 
     private void setValues(Map<String, Object> values) {
@@ -114,32 +115,44 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
         return ids;
     }
 
-    private void mergeReads() {
-        for (Entry<String, List<Object>> entry : collections.entrySet()) {
-            readFromSingleCollection(entry.getKey(), entry.getValue());
+    @Override
+    public void collectIds(Map<String, Set<Object>> collections) {
+        if (values == null && ids != null) {
+            for (Entry<String, List<Object>> entry : this.collections.entrySet()) {
+                collections.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+            }
         }
-        resolve();
     }
 
-    @SuppressWarnings("unchecked")
-    private void readFromSingleCollection(String collection, List<Object> collectionIds) {
+    @Override
+    public void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (values == null && ids != null) {
+            values = new LinkedHashMap<>();
+            mapIds(entities);
+            resolve();
+        }
+    }
 
-        try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(collection)
-                                                                    .filter(in("_id", collectionIds)).iterator()) {
-            final Map<Object, T> idMap = new HashMap<>();
-            while (cursor.hasNext()) {
-                final T entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+    private void mapIds(Map<String, Map<Object, Object>> entities) {
+        for (Entry<String, Object> entry : ids.entrySet()) {
+            final T value = (T) lookup(entities, entityModel, entry.getValue());
+            if (value != null) {
+                values.put(entry.getKey(), value);
             }
+        }
+    }
 
-            for (Entry<String, Object> entry : ids.entrySet()) {
-                final Object id = entry.getValue();
-                final T value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
-                if (value != null) {
-                    values.put(entry.getKey(), value);
-                }
-            }
+    private void mergeReads() {
+        Map<String, Map<Object, Object>> entities = new HashMap<>();
+        for (Entry<String, List<Object>> entry : collections.entrySet()) {
+            entities.put(entry.getKey(), readFromSingleCollection(entry.getKey(), entry.getValue()));
         }
+        mapIds(entities);
+        resolve();
+    }
+
+    private Map<Object, Object> readFromSingleCollection(String collection, List<Object> collectionIds) {
+        return read(collection, collectionIds);
     }
 
 }
@@ -1,16 +1,23 @@
 package dev.morphia.mapping.experimental;
 
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.Handler;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 
+import static dev.morphia.query.experimental.filters.Filters.in;
+
 /**
  * Wrapper type for references to entities in other collections
  *
@@ -24,6 +31,7 @@ public abstract class MorphiaReference<T> {
     private Mapper mapper;
     private boolean ignoreMissing;
     private boolean resolved;
+    private IdentityMap identityMap;
 
     MorphiaReference() {
     }
@@ -31,6 +39,7 @@ public abstract class MorphiaReference<T> {
     MorphiaReference(Datastore datastore, Mapper mapper) {
         this.mapper = mapper;
         this.datastore = datastore;
+        identityMap = IdentityMap.current();
     }
 
     /**
@@ -99,6 +108,49 @@ public abstract class MorphiaReference<T> {
         return getIds().equals(that.getIds());
     }
 
+    /**
+     * @return the identity map of the session this reference was loaded in or null if it was loaded outside a session
+     */
+    @Nullable
+    IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    /**
+     * Reads the entities for the given IDs from a collection.  Any entity the session this reference was loaded in already holds is
+     * taken from its identity map and only the remaining IDs are queried for.
+     *
+     * @param collection the collection name
+     * @param ids        the IDs to read
+     * @return the entities found keyed by their IDs
+     */
+    Map<Object, Object> read(String collection, List<Object> ids) {
+        final Map<Object, Object> idMap = new HashMap<>();
+        final List<Object> remaining = new ArrayList<>();
+        for (Object id : ids) {
+            Object known = identityMap != null ? identityMap.get(collection, id) : null;
+            if (known != null) {
+                idMap.put(id, known);
+            } else {
+                remaining.add(id);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            IdentityMap.within(identityMap, () -> {
+                try (MongoCursor<?> cursor = getDatastore().find(collection)
+                                                           .disableValidation()
+                                                           .filter(in("_id", remaining)).iterator()) {
+                    while (cursor.hasNext()) {
+                        final Object entity = cursor.next();
+                        idMap.put(getMapper().getId(entity), entity);
+                    }
+                }
+                return idMap;
+            });
+        }
+        return idMap;
+    }
+
     protected Mapper getMapper() {
         return mapper;
     }
@@ -134,4 +186,47 @@ public abstract class MorphiaReference<T> {
     }
 
     abstract Object getId(Mapper mapper, EntityModel entityModel);
+
+    /**
+     * Adds the IDs still to be fetched for this reference, grouped by collection name, so they can be fetched together with the IDs of
+     * other references.
+     *
+     * @param collections the IDs to fetch by collection name
+     * @morphia.internal
+     * @since 2.3
+     */
+    public abstract void collectIds(Map<String, Set<Object>> collections);
+
+    /**
+     * Resolves this reference from entities that have already been fetched rather than querying for them.  Entities are keyed by their
+     * collection as well as their ID since different collections can use the same ID values.
+     *
+     * @param entities the fetched entities by collection name and then ID
+     * @morphia.internal
+     * @since 2.3
+     */
+    public abstract void resolveFrom(Map<String, Map<Object, Object>> entities);
+
+    /**
+     * Finds a fetched entity by a stored ID.  A DBRef names its own collection while a plain ID is in the collection of the
+     * referenced type.
+     *
+     * @param entities the fetched entities by collection name and then ID
+     * @param model    the referenced type
+     * @param id       the stored ID
+     * @return the entity or null if it was not fetched
+     */
+    @Nullable
+    static Object lookup(Map<String, Map<Object, Object>> entities, EntityModel model, Object id) {
+        Map<Object, Object> collection;
+        Object key;
+        if (id instanceof DBRef) {
+            collection = entities.get(((DBRef) id).getCollectionName());
+            key = ((DBRef) id).getId();
+        } else {
+            collection = entities.get(model.getCollectionName());
+            key = id;
+        }
+        return collection != null ? collection.get(key) : null;
+    }
 }
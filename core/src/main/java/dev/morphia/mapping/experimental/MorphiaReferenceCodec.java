@@ -8,6 +8,7 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.TypeData;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
@@ -54,15 +55,21 @@ public class MorphiaReferenceCodec extends BaseReferenceCodec<MorphiaReference>
         value = processId(getDatastore(), value, decoderContext);
         TypeData typeData = getTypeData().getTypeParameters().get(0);
         EntityModel fieldEntityModel = getEntityModelForField();
+        MorphiaReference reference;
         if (Set.class.isAssignableFrom(typeData.getType())) {
-            return new SetReference<>(getDatastore(), mapper, fieldEntityModel, (List) value);
+            reference = new SetReference<>(getDatastore(), mapper, fieldEntityModel, (List) value);
         } else if (Collection.class.isAssignableFrom(typeData.getType())) {
-            return new ListReference<>(getDatastore(), mapper, fieldEntityModel, (List) value);
+            reference = new ListReference<>(getDatastore(), mapper, fieldEntityModel, (List) value);
         } else if (Map.class.isAssignableFrom(typeData.getType())) {
-            return new MapReference<>(getDatastore(), mapper, (Map) value, fieldEntityModel);
+            reference = new MapReference<>(getDatastore(), mapper, (Map) value, fieldEntityModel);
         } else {
-            return new SingleReference<>(getDatastore(), mapper, fieldEntityModel, value);
+            reference = new SingleReference<>(getDatastore(), mapper, fieldEntityModel, value);
         }
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null && batch.fetches(getPropertyModel(), true)) {
+            batch.defer(getPropertyModel(), reference);
+        }
+        return reference;
     }
 
     @Override
@@ -3,6 +3,7 @@ package dev.morphia.mapping.experimental;
 import com.mongodb.DBRef;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -12,7 +13,10 @@ import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 
@@ -76,7 +80,11 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().iterator().tryNext();
+            IdentityMap identityMap = getIdentityMap();
+            Object known = identityMap != null ? identityMap.get(getCollectionName(), getId()) : null;
+            value = entityModel.getType().isInstance(known)
+                    ? (T) known
+                    : IdentityMap.within(identityMap, () -> (T) buildQuery().iterator().tryNext());
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
@@ -91,6 +99,25 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return List.of(getId());
     }
 
+    @Override
+    public void collectIds(Map<String, Set<Object>> collections) {
+        if (!isResolved() && value == null && id != null) {
+            collections.computeIfAbsent(getCollectionName(), k -> new HashSet<>()).add(getId());
+        }
+    }
+
+    @Override
+    public void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && value == null && id != null) {
+            value = (T) lookup(entities, entityModel, id);
+            if (value == null && !ignoreMissing()) {
+                throw new ReferenceException(
+                    Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
+            }
+            resolve();
+        }
+    }
+
     @Override
     public Class<T> getType() {
         return (Class<T>) entityModel.getType();
@@ -113,6 +140,10 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return id;
     }
 
+    private String getCollectionName() {
+        return id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.getCollectionName();
+    }
+
     private Object getId() {
         return id instanceof DBRef ? ((DBRef) id).getId() : id;
     }
@@ -0,0 +1,78 @@
+package dev.morphia.query;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Iterates over the results of a cursor in their server order.  Splitting only hands over the results the cursor has already read so it
+ * never waits on the server, and the cursor is closed as soon as its last result has been read.
+ *
+ * @param <T> the entity type
+ * @since 2.3
+ */
+final class CursorSpliterator<T> implements Spliterator<T> {
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    private final MorphiaCursor<T> cursor;
+    private boolean done;
+
+    CursorSpliterator(MorphiaCursor<T> cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /*
+     * The results already read are the only ones known about without asking the server.  Those still to be fetched are unknown.
+     */
+    @Override
+    public long estimateSize() {
+        if (done) {
+            return 0;
+        }
+        int available = cursor.available();
+        return available > 0 ? available : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (!done && cursor.hasNext()) {
+            action.accept(cursor.next());
+        }
+        finish();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!done && cursor.hasNext()) {
+            action.accept(cursor.next());
+            return true;
+        }
+        finish();
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int available = done ? 0 : cursor.available();
+        if (available == 0) {
+            return null;
+        }
+        Object[] prefix = new Object[available];
+        for (int i = 0; i < available; i++) {
+            prefix[i] = cursor.next();
+        }
+        return Spliterators.spliterator(prefix, CHARACTERISTICS);
+    }
+
+    private void finish() {
+        if (!done) {
+            done = true;
+            cursor.close();
+        }
+    }
+}
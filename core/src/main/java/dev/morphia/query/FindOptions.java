@@ -37,6 +37,7 @@ import org.bson.types.ObjectId;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import static dev.morphia.internal.MorphiaInternals.DriverVersion.v4_1_0;
@@ -53,6 +54,7 @@ import static dev.morphia.internal.MorphiaInternals.tryInvoke;
 public final class FindOptions implements SessionConfigurable<FindOptions>, ReadConfigurable<FindOptions> {
     private Boolean allowDiskUse;
     private int batchSize;
+    private boolean batchReferences;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -75,6 +77,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     private Projection projection;
     private String queryLogId;
     private ClientSession clientSession;
+    private int readAhead;
+    private Executor readAheadExecutor;
 
     /**
      * Creates an instance with default values
@@ -146,6 +150,20 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return iterable;
     }
 
+    /**
+     * Resolves the eager references of the entities in each batch returned by the server together rather than one entity at a time.  All
+     * the referenced IDs in a batch are collected and fetched with a single {@code $in} query per referenced collection.  Note that any
+     * {@code @PostLoad} methods will be called before the references of an entity have been resolved.
+     *
+     * @param batchReferences true to resolve references for a whole batch at once
+     * @return this
+     * @since 2.3
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
     /**
      * Sets the batch size
      *
@@ -218,6 +236,7 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     public FindOptions copy(FindOptions original) {
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
         this.maxAwaitTimeMS = original.maxAwaitTimeMS;
@@ -240,6 +259,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
         this.clientSession = original.clientSession;
+        this.readAhead = original.readAhead;
+        this.readAheadExecutor = original.readAheadExecutor;
 
         return this;
     }
@@ -301,6 +322,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.hint;
     }
 
+    /**
+     * @return the name of the index to hint
+     * @since 2.3
+     */
+    @Nullable
+    public String getHintString() {
+        return this.hintString;
+    }
+
     /**
      * @return the limit
      */
@@ -358,6 +388,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return queryLogId;
     }
 
+    /**
+     * @return the number of batches read ahead of the caller
+     * @since 2.3
+     */
+    public int getReadAhead() {
+        return readAhead;
+    }
+
+    /**
+     * @return the executor reading batches ahead of the caller or null to start a thread for each cursor
+     * @since 2.3
+     */
+    @Nullable
+    public Executor getReadAheadExecutor() {
+        return readAheadExecutor;
+    }
+
     @Override
     public ReadConcern getReadConcern() {
         return readConcern;
@@ -368,6 +415,33 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return readPreference;
     }
 
+    /**
+     * Reads batches of results ahead of the caller.  A background task fetches and decodes up to the given number of batches while the
+     * caller works through the current one and waits whenever that many are already buffered.  Set a {@link #batchSize(int)} to bound
+     * the memory held by the buffered batches.  Tailable cursors, and those used in a session, are not read ahead.
+     *
+     * @param batches the number of batches to read ahead or 0 to read each batch only when it is needed
+     * @return this
+     * @since 2.3
+     */
+    public FindOptions readAhead(int batches) {
+        this.readAhead = batches;
+        return this;
+    }
+
+    /**
+     * Sets the executor to read batches ahead with.  Each cursor occupies one of its threads until it has been read to the end or closed.
+     *
+     * @param executor the executor or null to start a thread for each cursor
+     * @return this
+     * @see #readAhead(int)
+     * @since 2.3
+     */
+    public FindOptions readAheadExecutor(@Nullable Executor executor) {
+        this.readAheadExecutor = executor;
+        return this;
+    }
+
     @Override
     public FindOptions readConcern(ReadConcern readConcern) {
         this.readConcern = readConcern;
@@ -397,9 +471,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
 
     @Override
     public int hashCode() {
-        return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout, oplogReplay,
-            partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
-            queryLogId, clientSession);
+        return Objects.hash(allowDiskUse, batchSize, batchReferences, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType,
+            noCursorTimeout, oplogReplay, partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern,
+            readPreference, projection, queryLogId, clientSession, readAhead, readAheadExecutor);
     }
 
     @Override
@@ -411,14 +485,16 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
             return false;
         }
         FindOptions that = (FindOptions) o;
-        return batchSize == that.batchSize && limit == that.limit && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
-               && skip == that.skip && noCursorTimeout == that.noCursorTimeout && oplogReplay == that.oplogReplay && partial == that.partial
+        return batchSize == that.batchSize && batchReferences == that.batchReferences && limit == that.limit
+               && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS && skip == that.skip
+               && noCursorTimeout == that.noCursorTimeout && oplogReplay == that.oplogReplay && partial == that.partial
                && returnKey == that.returnKey && showRecordId == that.showRecordId && Objects.equals(allowDiskUse, that.allowDiskUse)
                && Objects.equals(sort, that.sort) && cursorType == that.cursorType && Objects.equals(collation, that.collation)
                && Objects.equals(comment, that.comment) && Objects.equals(hint, that.hint) && Objects.equals(hintString, that.hintString)
                && Objects.equals(max, that.max) && Objects.equals(min, that.min) && Objects.equals(readConcern, that.readConcern)
                && Objects.equals(readPreference, that.readPreference) && Objects.equals(projection, that.projection)
-               && Objects.equals(queryLogId, that.queryLogId) && Objects.equals(clientSession, that.clientSession);
+               && Objects.equals(queryLogId, that.queryLogId) && Objects.equals(clientSession, that.clientSession)
+               && readAhead == that.readAhead && Objects.equals(readAheadExecutor, that.readAheadExecutor);
     }
 
     @Override
@@ -426,6 +502,7 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                    .add("allowDiskUse=" + allowDiskUse)
                    .add("batchSize=" + batchSize)
+                   .add("batchReferences=" + batchReferences)
                    .add("limit=" + limit)
                    .add("maxTimeMS=" + maxTimeMS)
                    .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
@@ -445,6 +522,7 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
                    .add("readPreference=" + readPreference)
                    .add("queryLogId='" + queryLogId + "'")
                    .add("projection=" + projection)
+                   .add("readAhead=" + readAhead)
                    .toString();
     }
 
@@ -502,6 +580,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return queryLogId != null;
     }
 
+    /**
+     * @return true if the references of a batch are resolved together
+     * @since 2.3
+     */
+    public boolean isBatchReferences() {
+        return batchReferences;
+    }
+
     /**
      * @return is the cursor timeout enabled
      */
@@ -15,6 +15,8 @@ import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
 import dev.morphia.internal.MorphiaInternals.DriverVersion;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.references.FetchPlan;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
@@ -56,6 +58,8 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     @Deprecated
     private FindOptions options;
     private FindOptions lastOptions;
+    @Nullable
+    private List<String> prefetch;
 
     /**
      * Creates a Query for the given type and collection
@@ -300,7 +304,19 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        if (prefetch != null || options.isBatchReferences()) {
+            FetchPlan plan = prefetch != null ? FetchPlan.of(datastore.getMapper(), model, prefetch) : null;
+            // the first batch is fetched when the cursor is opened
+            return ReadAheadCursor.wrap(datastore, ReferenceBatch.resolving(datastore, plan,
+                () -> new MorphiaCursor<>(prepareCursor(options, getCollection()), datastore, plan)), options);
+        }
+        return ReadAheadCursor.wrap(datastore, new MorphiaCursor<>(prepareCursor(options, getCollection())), options);
+    }
+
+    @Override
+    public Query<T> prefetch(String... paths) {
+        prefetch = List.of(paths);
+        return this;
     }
 
     @Override
@@ -435,7 +451,8 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         baseQuery = new Document(query);
     }
 
-    protected Datastore getDatastore() {
+    @Override
+    public Datastore getDatastore() {
         return datastore;
     }
 
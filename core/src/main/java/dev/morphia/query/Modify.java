@@ -2,9 +2,11 @@ package dev.morphia.query;
 
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.ModifyOptions;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
 
@@ -27,6 +29,10 @@ public class Modify<T> extends UpdateBase<T> {
         super(datastore, collection, query, type, first, updates);
     }
 
+    Modify(Datastore datastore, MongoCollection<T> collection, Query<T> query, Class<T> type, Document prepared) {
+        super(datastore, collection, query, type, prepared);
+    }
+
     /**
      * Performs the operation
      *
@@ -48,8 +54,21 @@ public class Modify<T> extends UpdateBase<T> {
         ClientSession session = getDatastore().findSession(options);
         Document update = toDocument();
 
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        IdentityMap identityMap = evictUpdated();
+        T result;
+        try {
+            result = session == null
+                     ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
+                     : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        } catch (RuntimeException e) {
+            invalidateCached(null);
+            throw e;
+        }
+        Object id = getDatastore().getMapper().getId(result);
+        invalidateCached(id);
+        if (identityMap != null && id != null && options.getReturnDocument() == ReturnDocument.AFTER) {
+            identityMap.put(getCollection().getNamespace().getCollectionName(), id, result);
+        }
+        return result;
     }
 }
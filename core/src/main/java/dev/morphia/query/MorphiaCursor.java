@@ -5,9 +5,18 @@ import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.internal.IdentityMap;
+import dev.morphia.mapping.codec.references.FetchPlan;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -16,6 +25,12 @@ import java.util.List;
  */
 public class MorphiaCursor<T> implements MongoCursor<T> {
     private final MongoCursor<T> wrapped;
+    @Nullable
+    private final Datastore datastore;
+    @Nullable
+    private final FetchPlan plan;
+    @Nullable
+    private final IdentityMap identityMap;
 
     /**
      * Creates a MorphiaCursor
@@ -23,7 +38,38 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
      * @param cursor the Iterator to use
      */
     public MorphiaCursor(MongoCursor<T> cursor) {
+        this(cursor, null, null);
+    }
+
+    /**
+     * Creates a MorphiaCursor which resolves the references of each batch of results together
+     *
+     * @param cursor    the Iterator to use
+     * @param datastore the datastore to resolve references with or null to resolve them as each entity is read
+     * @param plan      the references to fetch or null to fetch all the eager references
+     * @morphia.internal
+     * @since 2.3
+     */
+    public MorphiaCursor(MongoCursor<T> cursor, @Nullable Datastore datastore, @Nullable FetchPlan plan) {
+        this(cursor, datastore, plan, null);
+    }
+
+    /**
+     * Creates a MorphiaCursor which reads its results within a session
+     *
+     * @param cursor      the Iterator to use
+     * @param datastore   the datastore to resolve references with or null to resolve them as each entity is read
+     * @param plan        the references to fetch or null to fetch all the eager references
+     * @param identityMap the identity map of the session or null if not reading within a session
+     * @morphia.internal
+     * @since 2.3
+     */
+    public MorphiaCursor(MongoCursor<T> cursor, @Nullable Datastore datastore, @Nullable FetchPlan plan,
+                         @Nullable IdentityMap identityMap) {
         wrapped = cursor;
+        this.datastore = datastore;
+        this.plan = plan;
+        this.identityMap = identityMap;
     }
 
     /**
@@ -35,22 +81,83 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
 
     @Override
     public boolean hasNext() {
-        return wrapped.hasNext();
+        return batched(wrapped::hasNext);
     }
 
     @Override
     @NonNull
     public T next() {
-        return wrapped.next();
+        return batched(wrapped::next);
     }
 
     public int available() {
         return wrapped.available();
     }
 
+    /**
+     * Hands the results over in lists of up to the given size.  A list is handed over as soon as the results already read from the server
+     * run out, even if it is not full, so that the next batch is only waited for once there is nothing left to hand over.  The cursor is
+     * closed once all the results have been handed over.
+     *
+     * @param size     the largest number of results to hand over at once
+     * @param consumer the consumer of the results
+     * @since 2.3
+     */
+    public void forEachBatch(int size, Consumer<List<T>> consumer) {
+        try {
+            List<T> batch = nextBatch(size);
+            while (!batch.isEmpty()) {
+                consumer.accept(batch);
+                batch = nextBatch(size);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Returns the results already read from the server.  If none are left, the next batch is read first.
+     *
+     * @return the results or an empty list if there are no more
+     * @since 2.3
+     */
+    public List<T> nextBatch() {
+        return nextBatch(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to the given number of the results already read from the server.  If none are left, the next batch is read first.
+     *
+     * @param size the largest number of results to return
+     * @return the results or an empty list if there are no more
+     * @since 2.3
+     */
+    public List<T> nextBatch(int size) {
+        if (!hasNext()) {
+            return new ArrayList<>();
+        }
+        List<T> batch = new ArrayList<>(Math.min(size, Math.max(available(), 1)));
+        do {
+            batch.add(next());
+        } while (batch.size() < size && available() > 0);
+        return batch;
+    }
+
+    /**
+     * Provides a sequential {@link Stream} of the results.  The cursor is closed once the stream has been read to the end or when the
+     * stream is closed.  When the stream is made parallel, only the results already read from the server are handed to other threads.
+     *
+     * @return the stream
+     * @since 2.3
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(new CursorSpliterator<>(this), false)
+                            .onClose(this::close);
+    }
+
     @Override
     public T tryNext() {
-        return wrapped.tryNext();
+        return batched(wrapped::tryNext);
     }
 
     @Override
@@ -75,9 +182,9 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
      * @return the list of Entities
      */
     public List<T> toList() {
-        final List<T> results = new ArrayList<>();
+        final List<T> results = new ArrayList<>(Math.max(available(), 10));
         try {
-            while (wrapped.hasNext()) {
+            while (hasNext()) {
                 results.add(next());
             }
         } finally {
@@ -86,4 +193,14 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         return results;
     }
 
+    private <V> V batched(Supplier<V> operation) {
+        // the driver decodes a whole batch when it is fetched so any deferred references can be resolved as soon as the call returns.
+        // results already buffered were decoded, and their references resolved, when their batch was fetched.
+        if (wrapped.available() > 0 || datastore == null && identityMap == null) {
+            return operation.get();
+        }
+        return IdentityMap.within(identityMap, () -> datastore != null
+                                                     ? ReferenceBatch.resolving(datastore, plan, operation)
+                                                     : operation.get());
+    }
 }
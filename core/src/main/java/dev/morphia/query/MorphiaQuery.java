@@ -10,9 +10,17 @@ import com.mongodb.client.result.DeleteResult;
 import com.mongodb.lang.NonNull;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
+import dev.morphia.cache.CachedCursor;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.internal.IdentityMap;
+import dev.morphia.internal.PathTarget;
 import dev.morphia.internal.MorphiaInternals.DriverVersion;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
+import dev.morphia.mapping.codec.references.FetchPlan;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
@@ -21,17 +29,28 @@ import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -45,15 +64,19 @@ import static java.lang.String.format;
  */
 class MorphiaQuery<T> implements Query<T> {
     private static final Logger LOG = LoggerFactory.getLogger(MorphiaQuery.class);
+    private static final int SAMPLES_PER_PARTITION = 20;
     private final Datastore datastore;
     private final Class<T> type;
     private final Mapper mapper;
     private final List<Filter> filters = new ArrayList<>();
     private final Document seedQuery;
+    private final Map<Document, Optional<Document>> keysetIndexes = new ConcurrentHashMap<>();
     private String collectionName;
     private MongoCollection<T> collection;
     private boolean validate = true;
     private FindOptions lastOptions;
+    @Nullable
+    private List<String> prefetch;
 
     protected MorphiaQuery(Datastore datastore, @Nullable String collectionName, Class<T> type) {
         this.type = type;
@@ -78,6 +101,20 @@ class MorphiaQuery<T> implements Query<T> {
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    /*
+     * Copies a query replacing its filters with the given query document.
+     */
+    private MorphiaQuery(MorphiaQuery<T> query, Document seedQuery) {
+        type = query.type;
+        datastore = query.datastore;
+        mapper = query.mapper;
+        this.seedQuery = seedQuery;
+        collectionName = query.collectionName;
+        collection = query.collection;
+        validate = query.validate;
+        prefetch = query.prefetch;
+    }
+
     static <V> V legacyOperation() {
         throw new UnsupportedOperationException(Sofia.legacyOperation());
     }
@@ -122,14 +159,18 @@ class MorphiaQuery<T> implements Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(getQueryDocument(), options)
+                       : collection.deleteMany(session, getQueryDocument(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(getQueryDocument(), options)
+                       : collection.deleteOne(session, getQueryDocument(), options);
+            }
+        } finally {
+            evictWritten();
         }
     }
 
@@ -194,9 +235,13 @@ class MorphiaQuery<T> implements Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
+                   : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        } finally {
+            evictWritten();
+        }
     }
 
     @Override
@@ -206,11 +251,24 @@ class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T first(FindOptions options) {
+        IdentityMap identityMap = identityMap();
+        if (identityMap != null && collectionName != null && options.getProjection() == null) {
+            Object id = idLookup();
+            Object known = id != null ? identityMap.get(collectionName, id) : null;
+            if (type.isInstance(known)) {
+                return type.cast(known);
+            }
+        }
         try (MongoCursor<T> it = iterator(options.copy().limit(1))) {
             return it.tryNext();
         }
     }
 
+    @Override
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
     @Override
     public Class<T> getEntityClass() {
         return type;
@@ -223,7 +281,68 @@ class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        IdentityMap identityMap = identityMap();
+        EntityCache cache = identityMap == null ? entityCache(options) : null;
+        List<?> ids = cache != null ? idsLookup() : null;
+        if (ids != null) {
+            return fromCache(cache, ids, options);
+        }
+        MorphiaCursor<T> cursor;
+        if (prefetch != null || options.isBatchReferences()) {
+            FetchPlan plan = prefetch != null ? FetchPlan.of(datastore.getMapper(), mapper.getEntityModel(type), prefetch) : null;
+            // the first batch is fetched when the cursor is opened
+            cursor = IdentityMap.within(identityMap, () -> ReferenceBatch.resolving(datastore, plan,
+                () -> new MorphiaCursor<>(prepareCursor(options, getCollection()), datastore, plan, identityMap)));
+        } else {
+            cursor = IdentityMap.within(identityMap,
+                () -> new MorphiaCursor<>(prepareCursor(options, getCollection()), null, null, identityMap));
+        }
+        return ReadAheadCursor.wrap(datastore, cursor, options);
+    }
+
+    @Override
+    public Page<T> page(FindOptions options, Sort... sorts) {
+        Document keys = keysetSort(sorts);
+        return page(keysetOptions(options, keys), keys, null);
+    }
+
+    @Override
+    public Page<T> pageAfter(T last, FindOptions options, Sort... sorts) {
+        Document keys = keysetSort(sorts);
+        return page(keysetOptions(options, keys), keys, keysetValues(last, keys));
+    }
+
+    @Override
+    public Page<T> pageAfter(String token, FindOptions options, Sort... sorts) {
+        Document keys = keysetSort(sorts);
+        return page(keysetOptions(options, keys), keys, Page.decode(token));
+    }
+
+    @Override
+    public Stream<T> parallelStream(FindOptions options, String field, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPartitionCount(partitions));
+        }
+        Document sort = options.getSort();
+        if (sort != null && !sort.isEmpty() || options.getSkip() != 0 || options.getLimit() != 0) {
+            throw new IllegalArgumentException(Sofia.invalidParallelStreamOptions());
+        }
+        List<Supplier<MongoCursor<T>>> cursors = new ArrayList<>();
+        for (Document range : partitions(options, new PathTarget(mapper, type, field, validate).translatedPath(), partitions)) {
+            MorphiaQuery<T> partition = range.isEmpty()
+                                        ? this
+                                        : new MorphiaQuery<>(this, new Document("$and", List.of(getQueryDocument(), range)));
+            cursors.add(() -> partition.iterator(options));
+        }
+        PartitionedSpliterator<T> spliterator = new PartitionedSpliterator<>(cursors, ConcurrentHashMap.newKeySet());
+        return StreamSupport.stream(spliterator, true)
+                            .onClose(spliterator::close);
+    }
+
+    @Override
+    public Query<T> prefetch(String... paths) {
+        prefetch = List.of(paths);
+        return this;
     }
 
     @Override
@@ -350,6 +469,346 @@ class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /*
+     * Splits the values of a field in to contiguous ranges at points taken from a sorted random sample of the documents matching this
+     * query.  Values of different BSON types do not compare with each other, so the ranges only cover the most common type in the sample
+     * and every other document, including those with a null or missing value, is read by one more partition of its own.
+     */
+    private List<Document> partitions(FindOptions options, String field, int count) {
+        List<Document> pipeline = new ArrayList<>();
+        Document query = getQueryDocument();
+        if (!query.isEmpty()) {
+            pipeline.add(new Document("$match", query));
+        }
+        pipeline.add(new Document("$sample", new Document("size", count * SAMPLES_PER_PARTITION)));
+        pipeline.add(new Document("$project", new Document("_id", 0)
+                                                   .append("value", "$" + field)
+                                                   .append("type", new Document("$type", "$" + field))));
+        pipeline.add(new Document("$sort", new Document("value", 1)));
+
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<T> collection = options.prepare(getCollection());
+        List<Document> samples = new ArrayList<>();
+        (session == null ? collection.aggregate(pipeline, Document.class) : collection.aggregate(session, pipeline, Document.class))
+            .collation(options.getCollation())
+            .into(samples);
+
+        String bsonType = partitionType(samples);
+        List<Object> values = new ArrayList<>();
+        for (Document sample : samples) {
+            if (bsonType != null && bsonType.equals(queryType(sample.getString("type")))) {
+                values.add(sample.get("value"));
+            }
+        }
+        List<Object> points = new ArrayList<>();
+        for (int i = 1; i < count && !values.isEmpty(); i++) {
+            Object point = values.get(i * values.size() / count);
+            if (points.isEmpty() || !points.get(points.size() - 1).equals(point)) {
+                points.add(point);
+            }
+        }
+        List<Document> ranges = new ArrayList<>();
+        if (points.isEmpty()) {
+            ranges.add(new Document());
+            return ranges;
+        }
+        ranges.add(new Document(field, new Document("$type", bsonType).append("$lt", points.get(0))));
+        for (int i = 1; i < points.size(); i++) {
+            ranges.add(new Document(field, new Document("$type", bsonType)
+                                               .append("$gte", points.get(i - 1))
+                                               .append("$lt", points.get(i))));
+        }
+        ranges.add(new Document(field, new Document("$type", bsonType).append("$gte", points.get(points.size() - 1))));
+        ranges.add(new Document(field, new Document("$not", new Document("$type", bsonType))));
+        return ranges;
+    }
+
+    /*
+     * The type to split on is the most common one in the sample.  Nulls, missing values and arrays are never split on as they either do
+     * not compare to anything else or match a range through any of their elements.
+     */
+    @Nullable
+    private static String partitionType(List<Document> samples) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Document sample : samples) {
+            String type = queryType(sample.getString("type"));
+            if (!type.equals("null") && !type.equals("missing") && !type.equals("array")) {
+                counts.merge(type, 1, Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                     .max(Entry.comparingByValue())
+                     .map(Entry::getKey)
+                     .orElse(null);
+    }
+
+    /*
+     * The numeric types all compare with each other so they are split on together.
+     */
+    private static String queryType(String type) {
+        switch (type) {
+            case "int":
+            case "long":
+            case "double":
+            case "decimal":
+                return "number";
+            default:
+                return type;
+        }
+    }
+
+    /*
+     * One more result than the page size is read to learn whether there is a following page.
+     */
+    private Page<T> page(FindOptions options, Document keys, @Nullable List<Object> after) {
+        MorphiaQuery<T> query = this;
+        if (after != null) {
+            if (after.size() != keys.size()) {
+                throw new IllegalArgumentException(Sofia.invalidPageToken());
+            }
+            query = new MorphiaQuery<>(this, new Document("$and", List.of(getQueryDocument(), keysetFilter(keys, after))));
+        }
+        int size = options.getLimit() - 1;
+        List<T> entities = query.iterator(options).toList();
+        String next = null;
+        if (entities.size() > size) {
+            entities = new ArrayList<>(entities.subList(0, size));
+            next = Page.encode(keysetValues(entities.get(size - 1), keys));
+        }
+        return new Page<>(entities, next, token -> page(options, keys, Page.decode(token)));
+    }
+
+    /*
+     * Matches the documents sorting after the given values:  those greater on the first key, or equal on the first and greater on the
+     * second, and so on, with "greater" meaning less for descending keys.
+     */
+    private static Document keysetFilter(Document keys, List<Object> after) {
+        List<Document> clauses = new ArrayList<>();
+        List<String> names = new ArrayList<>(keys.keySet());
+        for (int i = 0; i < names.size(); i++) {
+            Document clause = new Document();
+            for (int j = 0; j < i; j++) {
+                clause.append(names.get(j), after.get(j));
+            }
+            String operator = keys.getInteger(names.get(i)) > 0 ? "$gt" : "$lt";
+            clause.append(names.get(i), new Document(operator, after.get(i)));
+            clauses.add(clause);
+        }
+        return new Document("$or", clauses);
+    }
+
+    /*
+     * An index whose keys start with the sort keys, in either direction, serves every page without an in memory sort.  The indexes are
+     * only listed once per sort so that reading a page costs a single query.
+     */
+    @Nullable
+    private Document keysetIndex(Document keys) {
+        return keysetIndexes.computeIfAbsent(keys, k -> Optional.ofNullable(findKeysetIndex(k))).orElse(null);
+    }
+
+    @Nullable
+    private Document findKeysetIndex(Document keys) {
+        List<String> names = new ArrayList<>(keys.keySet());
+        for (Document index : getCollection().listIndexes()) {
+            Document key = index.get("key", Document.class);
+            List<String> indexed = new ArrayList<>(key.keySet());
+            if (indexed.size() < names.size() || !indexed.subList(0, names.size()).equals(names)) {
+                continue;
+            }
+            int direction = 0;
+            boolean matches = true;
+            for (String name : names) {
+                Object order = key.get(name);
+                if (!(order instanceof Number)) {
+                    matches = false;
+                    break;
+                }
+                int relative = Integer.signum(((Number) order).intValue()) * keys.getInteger(name);
+                if (direction != 0 && relative != direction) {
+                    matches = false;
+                    break;
+                }
+                direction = relative;
+            }
+            if (matches) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private FindOptions keysetOptions(FindOptions options, Document keys) {
+        if (options.getLimit() <= 0) {
+            throw new IllegalArgumentException(Sofia.pageSizeRequired());
+        }
+        FindOptions keyset = options.copy()
+                                    .sort(keys)
+                                    .skip(0)
+                                    .limit(options.getLimit() + 1);
+        if (options.getHint() == null && options.getHintString() == null) {
+            Document index = keysetIndex(keys);
+            if (index != null) {
+                keyset.hint(index);
+            }
+        }
+        return keyset;
+    }
+
+    /*
+     * Maps the sort fields and appends _id, if missing, so that every document has a distinct position in the order.
+     */
+    private Document keysetSort(Sort... sorts) {
+        Document keys = new Document();
+        int last = 1;
+        for (Sort sort : sorts) {
+            if (sort.getField().startsWith("$")) {
+                throw new IllegalArgumentException(Sofia.invalidPageSort(sort.getField()));
+            }
+            keys.append(new PathTarget(mapper, type, sort.getField(), validate).translatedPath(), sort.getOrder());
+            last = sort.getOrder();
+        }
+        keys.putIfAbsent("_id", last);
+        return keys;
+    }
+
+    /*
+     * The values are read from the stored form of the entity, without running any lifecycle events, so that they compare just as the
+     * stored values do.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> keysetValues(T entity, Document keys) {
+        Codec<T> codec = (Codec<T>) datastore.getCodecRegistry().get(entity.getClass());
+        BsonDocument document;
+        if (codec instanceof MorphiaCodec) {
+            document = ((MorphiaCodec<T>) codec).snapshot(entity);
+        } else {
+            document = new BsonDocument();
+            codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        }
+        List<Object> values = new ArrayList<>();
+        for (String key : keys.keySet()) {
+            BsonValue value = document;
+            for (String segment : key.split("\\.")) {
+                value = value != null && value.isDocument() ? value.asDocument().get(segment) : null;
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    /*
+     * Only plain lookups by ID outside of a session can be served from the cache as the results must not depend on anything else.
+     */
+    @Nullable
+    private EntityCache entityCache(FindOptions options) {
+        if (collectionName == null || !mapper.isMappable(type) || datastore.findSession(options) != null
+            || options.getProjection() != null || options.getSort() != null || options.getSkip() != 0
+            || options.getCollation() != null || options.isLogQuery()
+            || options.getCursorType() != null && options.getCursorType() != NonTailable) {
+            return null;
+        }
+        return mapper.getEntityCaches().get(mapper.getEntityModel(type), collectionName);
+    }
+
+    private MorphiaCursor<T> fromCache(EntityCache cache, List<?> ids, FindOptions options) {
+        Supplier<List<T>> find = () -> mapper.getEntityCaches().find(datastore, cache, collectionName, type, ids);
+        List<T> entities;
+        if (prefetch != null || options.isBatchReferences()) {
+            FetchPlan plan = prefetch != null ? FetchPlan.of(datastore.getMapper(), mapper.getEntityModel(type), prefetch) : null;
+            entities = ReferenceBatch.resolving(datastore, plan, find);
+        } else {
+            entities = find.get();
+        }
+        int limit = Math.abs(options.getLimit());
+        return new MorphiaCursor<>(new CachedCursor<>(limit != 0 && limit < entities.size() ? entities.subList(0, limit) : entities));
+    }
+
+    /*
+     * Finds the _id filter of this query if it filters on nothing else, ignoring any discriminator filter.
+     */
+    @Nullable
+    private Object idFilter() {
+        String discriminatorKey = mapper.isMappable(type) ? mapper.getEntityModel(type).getDiscriminatorKey() : null;
+        Object id = null;
+        for (Entry<String, Object> entry : getQueryDocument().entrySet()) {
+            if (entry.getKey().equals("_id")) {
+                id = entry.getValue();
+            } else if (!entry.getKey().equals(discriminatorKey)) {
+                return null;
+            }
+        }
+        return id;
+    }
+
+    /*
+     * Finds the ID this query is limited to if it matches nothing but a single ID.
+     */
+    @Nullable
+    private Object idLookup() {
+        Object id = idFilter();
+        return id instanceof Document ? null : id;
+    }
+
+    /*
+     * Finds the IDs this query is limited to if it matches nothing but a single ID or a list of them given with $in.
+     */
+    @Nullable
+    private List<?> idsLookup() {
+        return ids(idFilter());
+    }
+
+    /*
+     * Finds the IDs this query is limited to, whatever else it filters on, so that writing through it only affects those entities.
+     */
+    @Nullable
+    List<?> writtenIds() {
+        return ids(getQueryDocument().get("_id"));
+    }
+
+    @Nullable
+    private static List<?> ids(@Nullable Object id) {
+        if (!(id instanceof Document)) {
+            return id != null ? List.of(id) : null;
+        }
+        Document filter = (Document) id;
+        Object values = filter.get("$in");
+        if (filter.size() != 1 || !(values instanceof Collection)) {
+            return null;
+        }
+        for (Object value : (Collection<?>) values) {
+            if (value == null || value instanceof Document) {
+                return null;
+            }
+        }
+        return new ArrayList<>((Collection<?>) values);
+    }
+
+    private void evictWritten() {
+        if (collectionName == null) {
+            return;
+        }
+        IdentityMap identityMap = identityMap();
+        List<?> ids = writtenIds();
+        if (ids != null) {
+            for (Object id : ids) {
+                if (identityMap != null) {
+                    identityMap.remove(collectionName, id);
+                }
+                mapper.getEntityCaches().invalidate(datastore, collectionName, id);
+            }
+        } else {
+            if (identityMap != null) {
+                identityMap.evict(collectionName);
+            }
+            mapper.getEntityCaches().invalidate(datastore, collectionName, null);
+        }
+    }
+
+    @Nullable
+    private IdentityMap identityMap() {
+        return datastore instanceof DatastoreImpl ? ((DatastoreImpl) datastore).getIdentityMap() : null;
+    }
+
     Document getQueryDocument() {
         DocumentWriter writer = new DocumentWriter(mapper, seedQuery);
         document(writer, () -> {
@@ -6,6 +6,7 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.experimental.filters.Parameter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -46,6 +47,12 @@ public class OperationTarget {
             }
             return value;
         }
+        if (value instanceof Parameter) {
+            // encoded once a value is bound, the same way as a literal value
+            String path = target.translatedPath();
+            return new Document(path, ((Parameter) value).mappedBy(bound ->
+                ((Document) new OperationTarget(target, bound).encode(datastore)).get(path)));
+        }
         PropertyModel mappedField = this.target.getTarget();
         Object mappedValue = value;
 
@@ -38,12 +38,13 @@ class Operations {
         if (versionField != null) {
             List<OperationTarget> operationTargets = ops.get("$inc");
             String version = versionField.getMappedName();
-            boolean already = operationTargets != null
-                              && operationTargets.stream()
-                                                 .anyMatch(tv -> {
-                                                     PathTarget target = tv.getTarget();
-                                                     return target != null && target.translatedPath().equals(version);
-                                                 });
+            boolean already = false;
+            if (operationTargets != null) {
+                for (OperationTarget operationTarget : operationTargets) {
+                    PathTarget target = operationTarget.getTarget();
+                    already |= target != null && target.translatedPath().equals(version);
+                }
+            }
             if (!already) {
                 add("$inc", new OperationTarget(new PathTarget(datastore.getMapper(), entityModel, versionField.getName()), 1L));
             }
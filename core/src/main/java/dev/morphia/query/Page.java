@@ -0,0 +1,102 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * A page of query results read using keyset pagination.  Rather than skipping the results of the previous pages, each page is read by
+ * filtering on the sort values of the last entity of the page before it so that every page costs the same to read.
+ * <p>
+ * The sort values of the last entity are also available as an opaque token which can be handed to a client and passed back to
+ * {@link Query#pageAfter(String, FindOptions, Sort...)} later on to read the following page.
+ *
+ * @param <T> the entity type
+ * @see Query#page(FindOptions, Sort...)
+ * @since 2.3
+ */
+public final class Page<T> implements Iterable<T> {
+    private static final JsonWriterSettings TOKEN_SETTINGS = JsonWriterSettings.builder()
+                                                                               .outputMode(JsonMode.EXTENDED)
+                                                                               .build();
+
+    private final List<T> entities;
+    @Nullable
+    private final String nextToken;
+    private final Function<String, Page<T>> loader;
+
+    Page(List<T> entities, @Nullable String nextToken, Function<String, Page<T>> loader) {
+        this.entities = Collections.unmodifiableList(entities);
+        this.nextToken = nextToken;
+        this.loader = loader;
+    }
+
+    static String encode(List<Object> values) {
+        String json = new Document("after", values).toJson(TOKEN_SETTINGS);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<Object> decode(String token) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            List<Object> values = Document.parse(json).getList("after", Object.class);
+            if (values == null) {
+                throw new IllegalArgumentException(Sofia.invalidPageToken());
+            }
+            return values;
+        } catch (JsonParseException | ClassCastException e) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(), e);
+        }
+    }
+
+    /**
+     * @return the entities of this page
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the token to read the following page with or null if this is the last page
+     */
+    @Nullable
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return entities.iterator();
+    }
+
+    /**
+     * Reads the following page using the same query and options as this one
+     *
+     * @return the next page
+     * @throws NoSuchElementException if this is the last page
+     */
+    public Page<T> next() {
+        if (nextToken == null) {
+            throw new NoSuchElementException();
+        }
+        return loader.apply(nextToken);
+    }
+}
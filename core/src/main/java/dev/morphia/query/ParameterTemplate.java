@@ -0,0 +1,112 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.experimental.filters.Parameter;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.value;
+
+/**
+ * An encoded document holding {@link Parameter} placeholders for the values to be bound later.
+ *
+ * @morphia.internal
+ */
+final class ParameterTemplate {
+    private final Datastore datastore;
+    private final Document template;
+    private final Set<String> names = new LinkedHashSet<>();
+
+    ParameterTemplate(Datastore datastore, Document template) {
+        this.datastore = datastore;
+        this.template = template;
+        collect(template);
+    }
+
+    static void checkNames(Map<String, ?> values, Collection<String> names) {
+        for (String name : values.keySet()) {
+            if (!names.contains(name)) {
+                throw new IllegalArgumentException(Sofia.unknownParameter(name, names));
+            }
+        }
+    }
+
+    Set<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Creates a new document with the parameters replaced by their values.  Every container is copied since the results are typically
+     * modified further, e.g. by queries writing any additional filters in to their seed document.
+     *
+     * @param values the parameter values
+     * @return the new document
+     */
+    Document bind(Map<String, ?> values) {
+        for (String name : names) {
+            if (!values.containsKey(name)) {
+                throw new IllegalArgumentException(Sofia.missingParameterValue(name));
+            }
+        }
+        return (Document) copy(template, values);
+    }
+
+    @Override
+    public String toString() {
+        return template.toString();
+    }
+
+    private void collect(@Nullable Object node) {
+        if (node instanceof Parameter) {
+            names.add(((Parameter) node).getName());
+        } else if (node instanceof Document) {
+            ((Document) node).values().forEach(this::collect);
+        } else if (node instanceof List) {
+            ((List<?>) node).forEach(this::collect);
+        }
+    }
+
+    @Nullable
+    private Object copy(@Nullable Object node, Map<String, ?> values) {
+        if (node instanceof Parameter) {
+            Parameter parameter = (Parameter) node;
+            return encode(parameter.map(values.get(parameter.getName())));
+        } else if (node instanceof Document) {
+            Document document = new Document();
+            for (Entry<String, Object> entry : ((Document) node).entrySet()) {
+                document.put(entry.getKey(), copy(entry.getValue(), values));
+            }
+            return document;
+        } else if (node instanceof List) {
+            List<?> list = (List<?>) node;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(copy(item, values));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    @Nullable
+    private Object encode(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        DocumentWriter writer = new DocumentWriter(datastore.getMapper());
+        document(writer, () -> value(datastore, writer, "value", value, EncoderContext.builder().build()));
+        return writer.getDocument().get("value");
+    }
+}
@@ -0,0 +1,89 @@
+package dev.morphia.query;
+
+import com.mongodb.client.MongoCursor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Iterates over the results of a query split in to partitions which are each read with their own cursor.  Splitting hands whole
+ * partitions to the new spliterator so that each partition is only ever read, and its results decoded, by one thread.
+ *
+ * @param <T> the entity type
+ * @since 2.3
+ */
+final class PartitionedSpliterator<T> implements Spliterator<T> {
+    private final List<Supplier<MongoCursor<T>>> partitions;
+    private final Set<MongoCursor<T>> open;
+    private final int end;
+    private int next;
+    private MongoCursor<T> cursor;
+
+    PartitionedSpliterator(List<Supplier<MongoCursor<T>>> partitions, Set<MongoCursor<T>> open) {
+        this(partitions, open, 0, partitions.size());
+    }
+
+    private PartitionedSpliterator(List<Supplier<MongoCursor<T>>> partitions, Set<MongoCursor<T>> open, int next, int end) {
+        this.partitions = partitions;
+        this.open = open;
+        this.next = next;
+        this.end = end;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    /*
+     * Closes the cursors left open when the stream was not read to the end.
+     */
+    void close() {
+        for (MongoCursor<T> cursor : open) {
+            cursor.close();
+        }
+        open.clear();
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (cursor == null) {
+                if (next >= end) {
+                    return false;
+                }
+                cursor = partitions.get(next++).get();
+                open.add(cursor);
+            }
+            if (cursor.hasNext()) {
+                action.accept(cursor.next());
+                return true;
+            }
+            cursor.close();
+            open.remove(cursor);
+            cursor = null;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // a partition already being read stays here so the unread ones can all be handed off
+        int available = end - next;
+        int handed = cursor != null ? (available + 1) / 2 : available / 2;
+        if (handed == 0) {
+            return null;
+        }
+        int middle = next + handed;
+        Spliterator<T> prefix = new PartitionedSpliterator<>(partitions, open, next, middle);
+        next = middle;
+        return prefix;
+    }
+}
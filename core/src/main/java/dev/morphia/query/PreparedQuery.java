@@ -0,0 +1,94 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A query whose filters are validated and encoded once when it is prepared.  Values marked with
+ * {@link dev.morphia.query.experimental.filters.Filters#param(String)} are left as placeholders and each call to {@link #bind(Map)}
+ * only needs to encode the values given for those parameters.  Parameter values are mapped like literal values of their field.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @param <T> the entity type
+ * @see Datastore#prepare(Class, Filter...)
+ * @since 2.3
+ */
+public final class PreparedQuery<T> {
+    private final Datastore datastore;
+    private final Class<T> type;
+    private final ParameterTemplate template;
+
+    /**
+     * Prepares a query
+     *
+     * @param datastore the datastore
+     * @param type      the entity type
+     * @param filters   the filters to apply
+     * @morphia.internal
+     */
+    public PreparedQuery(Datastore datastore, Class<T> type, Filter... filters) {
+        this.datastore = datastore;
+        this.type = type;
+        template = new ParameterTemplate(datastore, new MorphiaQuery<>(datastore, (String) null, type)
+                                                        .filter(filters)
+                                                        .toDocument());
+    }
+
+    /**
+     * @return the names of the parameters of this query
+     */
+    public Set<String> getParameterNames() {
+        return Collections.unmodifiableSet(template.getNames());
+    }
+
+    /**
+     * Creates a query using the given value for the only parameter of this query
+     *
+     * @param name  the parameter name
+     * @param value the value
+     * @return the query
+     */
+    public Query<T> bind(String name, @Nullable Object value) {
+        return bind(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Creates a query using the given values for the parameters of this query.  Every parameter must be given a value.
+     *
+     * @param values the parameter values keyed by name
+     * @return the query
+     */
+    public Query<T> bind(Map<String, ?> values) {
+        ParameterTemplate.checkNames(values, template.getNames());
+        return query(values);
+    }
+
+    /**
+     * Prepares an update of the entities matched by this query.  The update operators may use parameters as well and are bound along with
+     * those of this query.
+     *
+     * @param first   the first update operator
+     * @param updates any additional update operators
+     * @return the prepared update
+     */
+    public PreparedUpdate<T> update(UpdateOperator first, UpdateOperator... updates) {
+        return new PreparedUpdate<>(datastore, this, type, first, updates);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedQuery{type=" + type.getSimpleName() + ", query=" + template + "}";
+    }
+
+    Query<T> query(Map<String, ?> values) {
+        return datastore.getMapper().getOptions().getQueryFactory()
+                        .createQuery(datastore, type, template.bind(values));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.morphia.query;
+
+import com.mongodb.client.MongoCollection;
+import dev.morphia.Datastore;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * An update whose operators are validated and encoded once when it is prepared.  Values marked with
+ * {@link dev.morphia.query.experimental.filters.Filters#param(String)} are bound, along with those of the prepared query, each time an
+ * update is created.  Parameter values are mapped like literal values of their field.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @param <T> the entity type
+ * @see PreparedQuery#update(UpdateOperator, UpdateOperator...)
+ * @since 2.3
+ */
+public final class PreparedUpdate<T> {
+    private final Datastore datastore;
+    private final MongoCollection<T> collection;
+    private final PreparedQuery<T> query;
+    private final Class<T> type;
+    private final ParameterTemplate template;
+    private final Set<String> names = new LinkedHashSet<>();
+
+    PreparedUpdate(Datastore datastore, PreparedQuery<T> query, Class<T> type, UpdateOperator first, UpdateOperator[] updates) {
+        this.datastore = datastore;
+        this.query = query;
+        this.type = type;
+        collection = datastore.getCollection(type);
+        List<UpdateOperator> operators = new ArrayList<>();
+        operators.add(first);
+        operators.addAll(asList(updates));
+        template = new ParameterTemplate(datastore, UpdateBase.toDocument(datastore, type, operators));
+        names.addAll(query.getParameterNames());
+        names.addAll(template.getNames());
+    }
+
+    /**
+     * @return the names of the parameters of this update and its query
+     */
+    public Set<String> getParameterNames() {
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Creates an update using the given values for the parameters.  Every parameter must be given a value.
+     *
+     * @param values the parameter values keyed by name
+     * @return the update
+     */
+    public Update<T> update(Map<String, ?> values) {
+        ParameterTemplate.checkNames(values, names);
+        return new Update<>(datastore, collection, query.query(values), type, template.bind(values));
+    }
+
+    /**
+     * Creates a modify operation using the given values for the parameters.  Every parameter must be given a value.
+     *
+     * @param values the parameter values keyed by name
+     * @return the modify operation
+     */
+    public Modify<T> modify(Map<String, ?> values) {
+        ParameterTemplate.checkNames(values, names);
+        return new Modify<>(datastore, collection, query.query(values), type, template.bind(values));
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedUpdate{query=" + query + ", update=" + template + "}";
+    }
+}
@@ -4,6 +4,7 @@ package dev.morphia.query;
 import com.mongodb.ExplainVerbosity;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
@@ -14,10 +15,7 @@ import org.bson.Document;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
 
@@ -296,6 +294,15 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
     @Nullable
     T first(FindOptions options);
 
+    /**
+     * @return the datastore this query runs against
+     * @morphia.internal
+     * @since 2.3
+     */
+    default Datastore getDatastore() {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
     /**
      * @return the entity {@link Class}.
      * @morphia.internal
@@ -350,6 +357,101 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Reads the first page of results using keyset pagination.  The page size is taken from {@link FindOptions#limit(int)} and the
+     * results are ordered by the sorts given with {@code _id} appended, if it is not already among them, so that the order is stable.
+     * Any sort or skip set on the options is replaced.  The sort fields should be present on every document and an index on them, in
+     * the same order, keeps reading each page as cheap as reading the first.  Such an index is hinted to the server when it is found.
+     *
+     * @param options the options to apply
+     * @param sorts   the sorts to order the results by
+     * @return the first page
+     * @see Page#next()
+     * @since 2.3
+     */
+    default Page<T> page(FindOptions options, Sort... sorts) {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
+    /**
+     * Reads the page of results following the entity given
+     *
+     * @param last    the last entity of the previous page
+     * @param options the options to apply
+     * @param sorts   the sorts the previous page was read with
+     * @return the page
+     * @see #page(FindOptions, Sort...)
+     * @since 2.3
+     */
+    default Page<T> pageAfter(T last, FindOptions options, Sort... sorts) {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
+    /**
+     * Reads the page of results following the page the token was taken from
+     *
+     * @param token   the token of the previous page
+     * @param options the options to apply
+     * @param sorts   the sorts the previous page was read with
+     * @return the page
+     * @throws IllegalArgumentException if the token does not match the sorts
+     * @see Page#getNextToken()
+     * @see #page(FindOptions, Sort...)
+     * @since 2.3
+     */
+    default Page<T> pageAfter(String token, FindOptions options, Sort... sorts) {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
+    /**
+     * Scans the results of this query in parallel.  The {@code _id} values are split in to ranges, each read with its own cursor, so that
+     * decoding the results is spread across the threads of the stream.
+     *
+     * @param options    the options to apply
+     * @param partitions the number of ranges to split the results in to
+     * @return the parallel stream
+     * @see #parallelStream(FindOptions, String, int)
+     * @since 2.3
+     */
+    default Stream<T> parallelStream(FindOptions options, int partitions) {
+        return parallelStream(options, "_id", partitions);
+    }
+
+    /**
+     * Scans the results of this query in parallel.  The values of the given field in the documents matching this query are sampled to
+     * split them in to ranges of roughly equal size which are each read with their own cursor.  Ranges only hold values of the type most
+     * common in the sample.  Documents without the field, or with a null or a value of another type, are read by one extra partition.  The
+     * field should be indexed and must not hold arrays.
+     * <p>
+     * The stream holds open cursors until it has been read to the end so it should be closed if it might not be.
+     *
+     * @param options    the options to apply
+     * @param field      the field to split the results on
+     * @param partitions the number of ranges to split the results in to
+     * @return the parallel stream
+     * @throws IllegalArgumentException if the options sort, skip or limit the results
+     * @since 2.3
+     */
+    default Stream<T> parallelStream(FindOptions options, String field, int partitions) {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
+    /**
+     * Defines which references to fetch when loading the results of this query.  The references of all the entities in a batch of results
+     * are fetched together with a single query per referenced collection.  References not named here are left unresolved regardless of
+     * how they are configured by {@link dev.morphia.annotations.Reference#lazy()}:  they are loaded lazily on first use if the proxy
+     * dependencies are available and are loaded one at a time, as they are read, otherwise.  Paths may pass through embedded types and may
+     * continue past a reference to name the references to fetch on the referenced entities, e.g.
+     * {@code query.prefetch("customer", "items.product.vendor")}.
+     *
+     * @param paths the reference paths to fetch
+     * @return this
+     * @since 2.3
+     */
+    default Query<T> prefetch(String... paths) {
+        throw new UnsupportedOperationException(Sofia.modernOperation());
+    }
+
     /**
      * This is only intended for migration of legacy uses of UpdateOperations
      *
@@ -409,15 +511,16 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
     }
 
     /**
-     * Provides a {@link Stream} representation of the results of this query.
+     * Provides a {@link Stream} representation of the results of this query.  The underlying cursor is closed once the stream has been
+     * read to the end or when the stream is closed.
      *
      * @param options the options to apply
      * @return the stream
+     * @see MorphiaCursor#stream()
      * @since 2.2
      */
     default Stream<T> stream(FindOptions options) {
-        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator(options), 0);
-        return StreamSupport.stream(spliterator, false);
+        return iterator(options).stream();
     }
 
     /**
@@ -0,0 +1,227 @@
+package dev.morphia.query;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.sofia.Sofia;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.CursorType.NonTailable;
+
+/**
+ * Reads the batches of a cursor on a background task while the caller works through the batches already read.  Fetching and decoding
+ * the next batches then overlaps with whatever the caller does with the current one.  The buffer holds a bounded number of batches and
+ * the background task waits while it is full.
+ * <p>
+ * The background task only holds on to the shared {@link Reader} so a cursor which is dropped without being closed can still be
+ * collected, which stops the task.
+ *
+ * @param <T> the entity type
+ * @see FindOptions#readAhead(int)
+ * @since 2.3
+ */
+@SuppressWarnings("removal")
+final class ReadAheadCursor<T> implements MongoCursor<T> {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Reader<T> reader;
+    private final Cleanable cleanable;
+    private Iterator<T> current;
+    private int available;
+    private boolean done;
+
+    private ReadAheadCursor(Reader<T> reader) {
+        this.reader = reader;
+        cleanable = CLEANER.register(this, reader::close);
+    }
+
+    /**
+     * Reads the cursor ahead of the caller if the options ask for it.  Cursors used in a session are never read ahead as a session must
+     * not be used by more than one thread at once.
+     *
+     * @param datastore the datastore
+     * @param cursor    the cursor
+     * @param options   the options the cursor was opened with
+     * @param <T>       the entity type
+     * @return the cursor to return to the caller
+     */
+    static <T> MorphiaCursor<T> wrap(Datastore datastore, MorphiaCursor<T> cursor, FindOptions options) {
+        if (options.getReadAhead() <= 0 || options.getCursorType() != null && options.getCursorType() != NonTailable
+            || datastore.findSession(options) != null) {
+            return cursor;
+        }
+        Reader<T> reader = new Reader<>(cursor, options.getReadAhead(), options.isNoCursorTimeout());
+        ReadAheadCursor<T> readAhead = new ReadAheadCursor<>(reader);
+        Executor executor = options.getReadAheadExecutor();
+        if (executor != null) {
+            executor.execute(reader::read);
+        } else {
+            Thread thread = new Thread(reader::read, "morphia-read-ahead");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return new MorphiaCursor<>(readAhead);
+    }
+
+    @Override
+    public int available() {
+        return available;
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return reader.wrapped.getServerAddress();
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return reader.wrapped.getServerCursor();
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return current != null && current.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        available--;
+        return current.next();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    private void fill() {
+        while (!done && (current == null || !current.hasNext())) {
+            if (reader.closed) {
+                done = true;
+                return;
+            }
+            List<T> batch = reader.poll();
+            // the reader only finishes once its last batch is in the buffer so an empty buffer then means everything was taken
+            if (batch == null && reader.finished && reader.batches.isEmpty()) {
+                done = true;
+                reader.rethrow();
+            } else if (batch != null) {
+                current = batch.iterator();
+                available = batch.size();
+            }
+        }
+    }
+
+    /*
+     * The state shared with the background task.  The wrapped cursor is only ever used by the task, and closed by it, so that it is
+     * never used by two threads at once.
+     */
+    private static final class Reader<T> {
+        private static final long WAIT = 100;
+        /*
+         * Servers close cursors left idle for 10 minutes by default so there is no point waiting any longer for the caller to take a
+         * batch while the server cursor is still open.
+         */
+        private static final long MAX_WAITS = TimeUnit.MINUTES.toMillis(10) / WAIT;
+
+        private final MongoCursor<T> wrapped;
+        private final BlockingQueue<List<T>> batches;
+        private final boolean noCursorTimeout;
+        private volatile boolean closed;
+        private volatile boolean finished;
+        private volatile Throwable failure;
+
+        private Reader(MongoCursor<T> wrapped, int depth, boolean noCursorTimeout) {
+            this.wrapped = wrapped;
+            this.noCursorTimeout = noCursorTimeout;
+            batches = new ArrayBlockingQueue<>(depth);
+        }
+
+        private void close() {
+            closed = true;
+            batches.clear();
+        }
+
+        @Nullable
+        private List<T> poll() {
+            try {
+                return batches.poll(WAIT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException(Sofia.readAheadInterrupted(), e);
+            }
+        }
+
+        private void offer(List<T> batch) throws InterruptedException {
+            long waits = 0;
+            while (!closed && !batches.offer(batch, WAIT, TimeUnit.MILLISECONDS)) {
+                // the caller has not taken a batch yet so check again whether the cursor was closed, or dropped, in the meantime.  only
+                // give up if the server would time the cursor out while it waits.
+                if (!noCursorTimeout && wrapped.getServerCursor() != null && ++waits == MAX_WAITS) {
+                    throw new MongoTimeoutException(Sofia.readAheadStalled(TimeUnit.MILLISECONDS.toMinutes(MAX_WAITS * WAIT)));
+                }
+            }
+        }
+
+        /*
+         * Runs on the background task.  A batch is whatever the driver has buffered after a fetch so its documents are decoded before
+         * the batch is handed over.
+         */
+        private void read() {
+            try {
+                while (!closed && wrapped.hasNext()) {
+                    List<T> batch = new ArrayList<>();
+                    do {
+                        batch.add(wrapped.next());
+                    } while (!closed && wrapped.available() > 0);
+                    offer(batch);
+                }
+            } catch (InterruptedException e) {
+                failure = new MongoInterruptedException(Sofia.readAheadInterrupted(), e);
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            } finally {
+                finished = true;
+                wrapped.close();
+            }
+        }
+
+        private void rethrow() {
+            Throwable thrown = failure;
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            } else if (thrown instanceof Error) {
+                throw (Error) thrown;
+            }
+        }
+    }
+}
@@ -2,6 +2,9 @@ package dev.morphia.query;
 
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
 import dev.morphia.UpdateOptions;
@@ -25,6 +28,38 @@ public class Update<T> extends UpdateBase<T> {
         super(datastore, collection, query, type, first, updates);
     }
 
+    Update(Datastore datastore, MongoCollection<T> collection, Query<T> query, Class<T> type, Document prepared) {
+        super(datastore, collection, query, type, prepared);
+    }
+
+    /**
+     * Converts this update for use in a bulk write
+     *
+     * @param options the options to apply
+     * @return the write model
+     * @morphia.internal
+     * @see dev.morphia.BulkWrite
+     * @since 2.3
+     */
+    public WriteModel<T> toWriteModel(UpdateOptions options) {
+        Document query = getQuery().toDocument();
+        Document update = toDocument();
+        return options.isMulti()
+               ? new UpdateManyModel<>(query, update, options)
+               : new UpdateOneModel<>(query, update, options);
+    }
+
+    /**
+     * Converts this update to a modify operation applying the same operators
+     *
+     * @return the modify operation
+     * @morphia.internal
+     * @since 2.3
+     */
+    public Modify<T> toModify() {
+        return new Modify<>(getDatastore(), getCollection(), getQuery(), getType(), toDocument());
+    }
+
     /**
      * Executes the update
      *
@@ -46,13 +81,18 @@ public class Update<T> extends UpdateBase<T> {
 
         ClientSession session = getDatastore().findSession(options);
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
-        if (options.isMulti()) {
-            return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
-                                   : mongoCollection.updateMany(session, queryObject, updateOperations, options);
+        evictUpdated();
+        try {
+            if (options.isMulti()) {
+                return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
+                                       : mongoCollection.updateMany(session, queryObject, updateOperations, options);
 
-        } else {
-            return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
-                                   : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            } else {
+                return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
+                                       : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            }
+        } finally {
+            invalidateCached(null);
         }
     }
 }
@@ -3,9 +3,13 @@ package dev.morphia.query;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.DatastoreImpl;
+import dev.morphia.internal.IdentityMap;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.ArrayList;
@@ -21,20 +25,21 @@ public abstract class UpdateBase<T> {
 
     private final Query<T> query;
     private final MongoCollection<T> collection;
-    private final Mapper mapper;
     private final Class<T> type;
     private final List<UpdateOperator> updates = new ArrayList<>();
     private final Datastore datastore;
+    @Nullable
+    private final Document prepared;
 
     UpdateBase(Datastore datastore,
                @Nullable MongoCollection<T> collection,
                @Nullable Query<T> query,
                Class<T> type) {
         this.datastore = datastore;
-        this.mapper = datastore.getMapper();
         this.collection = collection;
         this.query = query;
         this.type = type;
+        prepared = null;
     }
 
     UpdateBase(Datastore datastore,
@@ -44,12 +49,12 @@ public abstract class UpdateBase<T> {
                UpdateOperator first,
                UpdateOperator[] updates) {
         this.datastore = datastore;
-        this.mapper = datastore.getMapper();
         this.type = type;
         this.updates.add(first);
         this.updates.addAll(asList(updates));
         this.query = query;
         this.collection = collection;
+        prepared = null;
     }
 
     UpdateBase(Datastore datastore,
@@ -61,14 +66,42 @@ public abstract class UpdateBase<T> {
         this.updates.addAll(updates);
     }
 
+    UpdateBase(Datastore datastore,
+               MongoCollection<T> collection,
+               Query<T> query,
+               Class<T> type,
+               Document prepared) {
+        this.datastore = datastore;
+        this.collection = collection;
+        this.query = query;
+        this.type = type;
+        this.prepared = prepared;
+    }
+
+    static Document toDocument(Datastore datastore, Class<?> type, List<UpdateOperator> updates) {
+        Mapper mapper = datastore.getMapper();
+        EntityModel model = mapper.getEntityModel(type);
+        final Operations operations = new Operations(datastore, model);
+
+        for (UpdateOperator update : updates) {
+            PathTarget pathTarget = new PathTarget(mapper, model, update.field(), true);
+            operations.add(update.operator(), update.toTarget(pathTarget));
+        }
+        return operations.toDocument();
+    }
+
     /**
      * Adds a new operator to this update operation.
      *
      * @param operator the new operator
+     * @throws IllegalStateException if this update was created from a prepared update
      * @morphia.internal
      * @since 2.2
      */
     public void add(UpdateOperator operator) {
+        if (prepared != null) {
+            throw new IllegalStateException(Sofia.preparedUpdateOperators());
+        }
         updates.add(operator);
     }
 
@@ -76,13 +109,7 @@ public abstract class UpdateBase<T> {
      * @return the operations listed
      */
     public Document toDocument() {
-        final Operations operations = new Operations(datastore, mapper.getEntityModel(type));
-
-        for (UpdateOperator update : updates) {
-            PathTarget pathTarget = new PathTarget(mapper, mapper.getEntityModel(type), update.field(), true);
-            operations.add(update.operator(), update.toTarget(pathTarget));
-        }
-        return operations.toDocument();
+        return prepared != null ? prepared : toDocument(datastore, type, updates);
     }
 
     @Override
@@ -90,11 +117,53 @@ public abstract class UpdateBase<T> {
         return toDocument().toString();
     }
 
-    protected MongoCollection<T> getCollection() {
+    /**
+     * @return the collection to update
+     * @morphia.internal
+     */
+    public MongoCollection<T> getCollection() {
         return collection;
     }
 
-    protected Datastore getDatastore() {
+    /**
+     * Makes the session this update runs in, if any, forget the entities the update may change as they may no longer match.  Those are
+     * the entities with the IDs the query is limited to or, if it is not limited to any, every entity of the updated collection.
+     *
+     * @return the identity map of the session or null
+     */
+    @Nullable
+    protected IdentityMap evictUpdated() {
+        IdentityMap identityMap = datastore instanceof DatastoreImpl ? ((DatastoreImpl) datastore).getIdentityMap() : null;
+        if (identityMap != null && collection != null) {
+            String collectionName = collection.getNamespace().getCollectionName();
+            List<?> ids = query instanceof MorphiaQuery ? ((MorphiaQuery<T>) query).writtenIds() : null;
+            if (ids != null) {
+                ids.forEach(id -> identityMap.remove(collectionName, id));
+            } else {
+                identityMap.evict(collectionName);
+            }
+        }
+        return identityMap;
+    }
+
+    /**
+     * Drops the cached documents of the updated collection once the update has been sent.
+     *
+     * @param id the ID of the only document updated or null if it is not known
+     * @see dev.morphia.annotations.experimental.Cacheable
+     */
+    protected void invalidateCached(@Nullable Object id) {
+        if (collection != null) {
+            datastore.getMapper().getEntityCaches().invalidate(datastore, collection.getNamespace().getCollectionName(), id);
+        }
+    }
+
+    /**
+     * @return the datastore this update runs against
+     * @morphia.internal
+     * @since 2.3
+     */
+    public Datastore getDatastore() {
         return datastore;
     }
 
@@ -102,6 +171,10 @@ public abstract class UpdateBase<T> {
         return query;
     }
 
+    protected Class<T> getType() {
+        return type;
+    }
+
     /**
      * @return the updates
      * @morphia.internal
@@ -6,7 +6,9 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.sofia.Sofia;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
@@ -137,11 +139,12 @@ public class Filter {
     protected Object getValue(Datastore datastore) {
         if (!mapped) {
             PathTarget target = pathTarget(datastore.getMapper());
-            OperationTarget operationTarget = new OperationTarget(pathTarget, value);
-            this.value = operationTarget.getValue();
-            PropertyModel property = target.getTarget();
-            if (property != null && property.specializeCodec(datastore) instanceof PropertyHandler) {
-                this.value = ((Document) operationTarget.encode(datastore)).get(field);
+            String path = field;
+            if (value instanceof Parameter) {
+                // parameters are only replaced with their values once the query is bound so keep the mapping for then
+                this.value = ((Parameter) value).mappedBy(bound -> map(datastore, target, path, bound));
+            } else {
+                this.value = map(datastore, target, path, value);
             }
             mapped = true;
         }
@@ -157,6 +160,16 @@ public class Filter {
         return pathTarget(mapper).translatedPath();
     }
 
+    @Nullable
+    private static Object map(Datastore datastore, PathTarget target, String field, @Nullable Object value) {
+        OperationTarget operationTarget = new OperationTarget(target, value);
+        PropertyModel property = target.getTarget();
+        if (property != null && property.specializeCodec(datastore) instanceof PropertyHandler) {
+            return ((Document) operationTarget.encode(datastore)).get(field);
+        }
+        return operationTarget.getValue();
+    }
+
     private PathTarget pathTarget(Mapper mapper) {
         if (pathTarget == null) {
             pathTarget = new PathTarget(mapper, entityClass, field, validate);
@@ -165,10 +178,19 @@ public class Filter {
         return pathTarget;
     }
 
+    private void writeParameter(Parameter parameter, BsonWriter writer) {
+        if (!(writer instanceof DocumentWriter)) {
+            throw new IllegalStateException(Sofia.unboundParameter(parameter.getName()));
+        }
+        ((DocumentWriter) writer).writeUnencoded(parameter);
+    }
+
     protected void writeNamedValue(@Nullable String name, @Nullable Object named, Datastore datastore, BsonWriter writer,
                                    EncoderContext encoderContext) {
         writer.writeName(name);
-        if (named != null) {
+        if (named instanceof Parameter) {
+            writeParameter((Parameter) named, writer);
+        } else if (named != null) {
             Codec codec = datastore.getCodecRegistry().get(named.getClass());
             encoderContext.encodeWithChildContext(codec, writer, named);
         } else {
@@ -177,7 +199,9 @@ public class Filter {
     }
 
     protected void writeUnnamedValue(@Nullable Object value, Datastore datastore, BsonWriter writer, EncoderContext encoderContext) {
-        if (value != null) {
+        if (value instanceof Parameter) {
+            writeParameter((Parameter) value, writer);
+        } else if (value != null) {
             Codec codec = datastore.getCodecRegistry().get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         } else {
@@ -532,6 +532,19 @@ public final class Filters {
         return new LogicalFilter("$or", filters);
     }
 
+    /**
+     * Creates a named placeholder to use in place of a filter value when preparing a query.  Values are supplied for each parameter when
+     * the prepared query is bound.
+     *
+     * @param name the name of the parameter
+     * @return the parameter
+     * @see dev.morphia.Datastore#prepare(Class, Filter...)
+     * @since 2.3
+     */
+    public static Parameter param(String name) {
+        return new Parameter(name);
+    }
+
     /**
      * Specifies a polygon to using legacy coordinate pairs for $geoWithin queries. The 2d index supports $center.
      *
@@ -0,0 +1,80 @@
+package dev.morphia.query.experimental.filters;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A named placeholder used as a filter value in a {@link dev.morphia.query.PreparedQuery}.  The value is supplied each time the query is
+ * bound.
+ *
+ * @see Filters#param(String)
+ * @since 2.3
+ */
+public final class Parameter {
+    private final String name;
+    @Nullable
+    private final UnaryOperator<Object> mapping;
+
+    Parameter(String name) {
+        this(name, null);
+    }
+
+    private Parameter(String name, @Nullable UnaryOperator<Object> mapping) {
+        this.name = name;
+        this.mapping = mapping;
+    }
+
+    /**
+     * @return the name of this parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Maps a value bound to this parameter the same way a literal value in its place would have been mapped
+     *
+     * @param value the bound value
+     * @return the mapped value
+     * @morphia.internal
+     */
+    @Nullable
+    public Object map(@Nullable Object value) {
+        return mapping != null && value != null ? mapping.apply(value) : value;
+    }
+
+    /**
+     * Creates a copy of this parameter which maps its values with the mapping of the field it was prepared against, e.g. to reduce
+     * referenced entities to their IDs.
+     *
+     * @param mapping the mapping to apply
+     * @return the new parameter
+     * @morphia.internal
+     */
+    public Parameter mappedBy(UnaryOperator<Object> mapping) {
+        return new Parameter(name, mapping);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Parameter)) {
+            return false;
+        }
+        return Objects.equals(name, ((Parameter) o).name);
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
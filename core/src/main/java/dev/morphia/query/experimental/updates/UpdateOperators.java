@@ -2,6 +2,7 @@ package dev.morphia.query.experimental.updates;
 
 import dev.morphia.query.Query;
 import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.experimental.filters.Parameter;
 import dev.morphia.sofia.Sofia;
 
 import java.time.temporal.Temporal;
@@ -126,6 +127,20 @@ public final class UpdateOperators {
         return new UpdateOperator("$inc", field, value);
     }
 
+    /**
+     * Increments the value of the field by an amount given when a prepared update is bound.
+     *
+     * @param field the field to increment
+     * @param value the parameter holding the number to increment by
+     * @return the update operator
+     * @update.operator $inc
+     * @see dev.morphia.query.PreparedQuery#update(UpdateOperator, UpdateOperator...)
+     * @since 2.3
+     */
+    public static UpdateOperator inc(String field, Parameter value) {
+        return new UpdateOperator("$inc", field, value);
+    }
+
     /**
      * Only updates the field if the specified value is greater than the existing field value.
      *
@@ -1,6 +1,10 @@
 package dev.morphia.query.internal;
 
 import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.internal.IdentityMap;
+import dev.morphia.mapping.codec.references.FetchPlan;
 
 /**
  * @param <T> the original type being iterated
@@ -18,4 +22,32 @@ public class MorphiaCursor<T> extends dev.morphia.query.MorphiaCursor<T> {
     public MorphiaCursor(MongoCursor<T> cursor) {
         super(cursor);
     }
+
+    /**
+     * Creates a MorphiaCursor which resolves the references of each batch of results together
+     *
+     * @param cursor    the Iterator to use
+     * @param datastore the datastore to resolve references with or null to resolve them as each entity is read
+     * @param plan      the references to fetch or null to fetch all the eager references
+     * @morphia.internal
+     * @since 2.3
+     */
+    public MorphiaCursor(MongoCursor<T> cursor, @Nullable Datastore datastore, @Nullable FetchPlan plan) {
+        super(cursor, datastore, plan);
+    }
+
+    /**
+     * Creates a MorphiaCursor which reads its results within a session
+     *
+     * @param cursor      the Iterator to use
+     * @param datastore   the datastore to resolve references with or null to resolve them as each entity is read
+     * @param plan        the references to fetch or null to fetch all the eager references
+     * @param identityMap the identity map of the session or null if not reading within a session
+     * @morphia.internal
+     * @since 2.3
+     */
+    public MorphiaCursor(MongoCursor<T> cursor, @Nullable Datastore datastore, @Nullable FetchPlan plan,
+                         @Nullable IdentityMap identityMap) {
+        super(cursor, datastore, plan, identityMap);
+    }
 }
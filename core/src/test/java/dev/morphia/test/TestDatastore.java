@@ -5,12 +5,19 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import dev.morphia.AsyncDatastore;
+import dev.morphia.BulkResult;
+import dev.morphia.BulkWrite;
+import dev.morphia.BulkWriteException;
+import dev.morphia.BulkWriteOptions;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
 import dev.morphia.InsertManyOptions;
 import dev.morphia.InsertOneOptions;
 import dev.morphia.ModifyOptions;
+import dev.morphia.Morphia;
 import dev.morphia.UpdateOptions;
+import dev.morphia.VersionMismatchException;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.EntityListeners;
 import dev.morphia.annotations.Id;
@@ -19,6 +26,8 @@ import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Transient;
+import dev.morphia.annotations.experimental.Cacheable;
+import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
@@ -33,17 +42,30 @@ import dev.morphia.test.models.Grade;
 import dev.morphia.test.models.Hotel;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.TestEntity;
+import dev.morphia.test.models.versioned.Versioned;
 import org.bson.Document;
+import org.bson.codecs.Codec;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.mongodb.client.model.CollationStrength.SECONDARY;
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.ReturnDocument.BEFORE;
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.in;
 import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static java.util.Arrays.asList;
@@ -51,8 +73,10 @@ import static java.util.Collections.emptyList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class TestDatastore extends TestBase {
     @Test
@@ -70,6 +94,63 @@ public class TestDatastore extends TestBase {
         assertEquals(collection.countDocuments(), 5);
     }
 
+    @Test
+    public void testBulkWrite() {
+        Rectangle kept = new Rectangle(1, 1);
+        Rectangle removed = new Rectangle(2, 2);
+        getDs().save(asList(kept, removed));
+
+        Versioned versioned = new Versioned();
+        versioned.setName("first");
+        getDs().save(versioned);
+        Versioned stale = getDs().find(Versioned.class).first();
+        versioned.setName("second");
+
+        BulkResult result = getDs().bulk()
+                                   .insert(new Rectangle(3, 3))
+                                   .save(versioned)
+                                   .update(getDs().find(Rectangle.class).filter(eq("height", 1D)).update(inc("width")))
+                                   .delete(removed)
+                                   .execute(new BulkWriteOptions().ordered(false));
+        assertEquals(result.getInsertedCount(), 1);
+        assertEquals(result.getModifiedCount(), 2);
+        assertEquals(result.getDeletedCount(), 1);
+        assertEquals(getDs().find(Rectangle.class).count(), 2);
+        assertEquals(getDs().find(Rectangle.class).filter(eq("width", 2D)).count(), 1);
+        assertEquals(versioned.getVersion().longValue(), 2L);
+
+        stale.setName("stale");
+        try {
+            getDs().bulk()
+                   .insert(new Rectangle(4, 4))
+                   .save(stale)
+                   .execute();
+            fail("the stale save should have failed");
+        } catch (BulkWriteException e) {
+            assertEquals(e.getErrors().keySet(), Set.of(1));
+            assertEquals(e.getResult().getInsertedCount(), 1);
+        }
+        assertEquals(stale.getVersion().longValue(), 1L);
+        assertEquals(getDs().find(Versioned.class).first().getName(), "second");
+    }
+
+    @Test
+    public void testBulkWriteVersionsOnExecute() {
+        Versioned versioned = new Versioned();
+        versioned.setName("first");
+        getDs().save(versioned);
+
+        versioned.setName("second");
+        BulkWrite bulk = getDs().bulk().save(versioned);
+        assertEquals(versioned.getVersion().longValue(), 1L);
+
+        bulk.execute();
+        assertEquals(versioned.getVersion().longValue(), 2L);
+        assertThrows(IllegalStateException.class, bulk::execute);
+        assertEquals(versioned.getVersion().longValue(), 2L);
+        assertEquals(getDs().find(Versioned.class).first().getVersion().longValue(), 2L);
+    }
+
     @Test
     public void testCappedEntity() {
         // given
@@ -420,6 +501,177 @@ public class TestDatastore extends TestBase {
 
     }
 
+    @Test
+    public void testAsync() {
+        List<CompletableFuture<Rectangle>> saves = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            saves.add(getDs().async().save(new Rectangle(i, i)));
+        }
+        CompletableFuture.allOf(saves.toArray(new CompletableFuture[0])).join();
+
+        AsyncDatastore async = getDs().async();
+        CompletableFuture<Long> count = async.count(getDs().find(Rectangle.class));
+        CompletableFuture<List<Rectangle>> tall = async.find(getDs().find(Rectangle.class).filter(gt("height", 5)));
+        assertEquals(count.join().longValue(), 10);
+        assertEquals(tall.join().size(), 5);
+
+        UpdateResult updated = async.update(getDs().find(Rectangle.class).filter(gt("height", 5)).update(set("width", 0)),
+            new UpdateOptions().multi(true)).join();
+        assertEquals(updated.getModifiedCount(), 5);
+        assertEquals(async.delete(getDs().find(Rectangle.class).filter(eq("width", 0)), new DeleteOptions().multi(true))
+                          .join().getDeletedCount(), 5);
+
+        CompletableFuture<Rectangle> failed = async.submit(datastore -> {
+            throw new IllegalStateException("failed");
+        });
+        assertThrows(CompletionException.class, failed::join);
+
+        AsyncDatastore single = new AsyncDatastore(getDs(), Runnable::run, 1);
+        assertEquals(single.count(getDs().find(Rectangle.class)).join().longValue(), 5);
+        assertThrows(IllegalArgumentException.class, () -> new AsyncDatastore(getDs(), Runnable::run, 0));
+
+        // operations of a child view wait for a permit of the parent too
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AsyncDatastore parent = new AsyncDatastore(getDs(), tasks::add, 1);
+        AsyncDatastore child = new AsyncDatastore(getDs(), parent, 1);
+        CompletableFuture<Integer> first = parent.submit(datastore -> 1);
+        CompletableFuture<Integer> second = child.submit(datastore -> 2);
+        assertEquals(tasks.size(), 1);
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+        assertEquals(first.join().intValue(), 1);
+        assertEquals(second.join().intValue(), 2);
+    }
+
+    @Test
+    public void testEntityCache() {
+        getMapper().map(CachedCountry.class);
+        CachedCountry norway = new CachedCountry("Norway");
+        CachedCountry sweden = new CachedCountry("Sweden");
+        getDs().save(List.of(norway, sweden));
+
+        assertEquals(getDs().find(CachedCountry.class).filter(eq("_id", norway.id)).first().name, "Norway");
+        assertEquals(getMapper().getEntityCaches().get(getMapper().getEntityModel(CachedCountry.class), "countries").size(), 1);
+
+        // changes made outside of Morphia go unseen until the document is dropped from the cache
+        getDocumentCollection(CachedCountry.class)
+            .updateOne(new Document("_id", norway.id), new Document("$set", new Document("name", "Norge")));
+        assertEquals(getDs().find(CachedCountry.class).filter(eq("_id", norway.id)).first().name, "Norway");
+
+        getDs().find(CachedCountry.class)
+               .filter(eq("_id", sweden.id))
+               .update(set("name", "Sverige"))
+               .execute();
+        norway.name = "Noreg";
+        getDs().save(norway);
+
+        List<CachedCountry> countries = getDs().find(CachedCountry.class)
+                                               .filter(in("_id", List.of(sweden.id, norway.id)))
+                                               .iterator()
+                                               .toList();
+        assertEquals(countries.size(), 2);
+        assertEquals(countries.get(0).name, "Sverige");
+        assertEquals(countries.get(1).name, "Noreg");
+    }
+
+    @Test
+    public void testEntityCacheNumericIds() {
+        getMapper().map(CachedNumber.class);
+        getDs().save(List.of(new CachedNumber(5L, "five"), new CachedNumber(6L, "six")));
+
+        for (int i = 0; i < 2; i++) {
+            CachedNumber five = getDs().find(CachedNumber.class).filter(eq("_id", 5)).first();
+            assertNotNull(five);
+            assertEquals(five.name, "five");
+        }
+        List<CachedNumber> numbers = getDs().find(CachedNumber.class)
+                                            .filter(in("_id", List.of(5, 6L)))
+                                            .iterator()
+                                            .toList();
+        assertEquals(numbers.size(), 2);
+
+        getDs().find(CachedNumber.class).filter(eq("_id", 6)).update(set("name", "six again")).execute();
+        assertEquals(getDs().find(CachedNumber.class).filter(eq("_id", 6L)).first().name, "six again");
+    }
+
+    @Test
+    public void testTrackedChanges() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder()
+                                                                                                   .trackChanges(true)
+                                                                                                   .build());
+        Rectangle rectangle = new Rectangle(10, 10);
+        datastore.save(rectangle);
+
+        Rectangle loaded = datastore.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+        assertNotNull(datastore.getMapper().getChangeTracker().get(loaded));
+
+        // only the changed width should be written so the concurrent change to the height survives
+        datastore.getCollection(Rectangle.class)
+                 .withDocumentClass(Document.class)
+                 .updateOne(new Document("_id", rectangle.getId()), new Document("$set", new Document("h", 20.0)));
+        loaded.setWidth(5);
+        datastore.save(loaded);
+
+        Rectangle saved = datastore.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+        assertEquals(saved.getWidth(), 5.0);
+        assertEquals(saved.getHeight(), 20.0);
+
+        Versioned versioned = new Versioned();
+        versioned.setName("first");
+        datastore.save(versioned);
+        Versioned stale = datastore.find(Versioned.class).filter(eq("_id", versioned.getId())).first();
+        versioned.setName("second");
+        datastore.save(versioned);
+        assertEquals(versioned.getVersion().longValue(), 2L);
+
+        stale.setName("stale");
+        assertThrows(VersionMismatchException.class, () -> datastore.save(stale));
+        assertEquals(stale.getVersion().longValue(), 1L);
+    }
+
+    @Test
+    public void testTrackedChangesLifecycle() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder()
+                                                                                                   .trackChanges(true)
+                                                                                                   .build());
+        Stamped stamped = new Stamped();
+        stamped.name = "first";
+        datastore.save(stamped);
+
+        Stamped loaded = datastore.find(Stamped.class).filter(eq("_id", stamped.id)).first();
+        datastore.save(loaded);
+        assertEquals(loaded.persisted, 0);
+
+        loaded.name = "second";
+        datastore.save(loaded);
+        assertEquals(loaded.persisted, 1);
+        assertEquals(datastore.find(Stamped.class).first().stamp, 2);
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(FacebookUser.class, Hotel.class, Rectangle.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Codec<FacebookUser>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> datastore.getCodecRegistry().get(FacebookUser.class)));
+            }
+            Codec<FacebookUser> codec = futures.get(0).get();
+            for (Future<Codec<FacebookUser>> future : futures) {
+                assertSame(future.get(), codec);
+            }
+
+            datastore.warmUp();
+            assertSame(datastore.getCodecRegistry().get(FacebookUser.class), codec);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testUpdateWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
@@ -453,6 +705,53 @@ public class TestDatastore extends TestBase {
                          .loginCount, 2);
     }
 
+    @Entity("countries")
+    @Cacheable(maxSize = 10)
+    private static class CachedCountry {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        CachedCountry() {
+        }
+
+        CachedCountry(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity("numbers")
+    @Cacheable(maxSize = 10)
+    private static class CachedNumber {
+        @Id
+        private Long id;
+        private String name;
+
+        CachedNumber() {
+        }
+
+        CachedNumber(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity("stamped")
+    private static class Stamped {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int stamp;
+        @Transient
+        private int persisted;
+
+        @PrePersist
+        void stamp() {
+            stamp++;
+            persisted++;
+        }
+    }
+
     private static class LifecycleListener {
         private static boolean prePersist;
         private static boolean prePersistWithEntity;
@@ -69,6 +69,27 @@ public class TestDatastoreMerge extends TestBase {
         Assert.assertEquals(te2.position, merge.position);
     }
 
+    @Test
+    public void testMergeWithoutReload() {
+        final Merger te = new Merger();
+        te.name = "test1";
+        te.foo = "bar";
+        te.position = 1;
+        getDs().save(te);
+
+        final Merger te2 = new Merger();
+        te2.id = te.id;
+        te2.position = 5;
+        Merger merge = getDs().merge(te2, new InsertOneOptions().reload(false));
+
+        Assert.assertSame(merge, te2);
+        Assert.assertNull(merge.name);
+
+        Merger loaded = getDs().find(Merger.class).filter(eq("_id", te.id)).first();
+        Assert.assertEquals(loaded.name, te.name);
+        Assert.assertEquals(loaded.position, te2.position);
+    }
+
     @Test
     public void testMergeWithUnset() {
         final Merger te = new Merger();
@@ -1,11 +1,13 @@
 package dev.morphia.test;
 
 import com.mongodb.client.model.Filters;
+import com.sun.management.ThreadMXBean;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.experimental.Name;
 import dev.morphia.mapping.Mapper;
@@ -13,6 +15,7 @@ import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MapperOptions.PropertyDiscovery;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.codec.pojo.DecodePlan;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.experimental.MorphiaReference;
@@ -57,6 +60,7 @@ import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -75,6 +79,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -280,6 +285,40 @@ public class TestMapping extends TestBase {
         assertNotNull(loaded.id);
     }
 
+    @Test
+    public void testDecodeInAnyFieldOrder() {
+        getMapper().map(DecodeOrder.class);
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection(getMapper().getEntityModel(DecodeOrder.class).getCollectionName())
+                     .insertOne(new Document("other", "o")
+                                    .append("unknown", 42)
+                                    .append("old", 3)
+                                    .append("n", "name")
+                                    .append("_id", id));
+
+        DecodeOrder loaded = getDs().find(DecodeOrder.class).filter(eq("_id", id)).first();
+        assertEquals(loaded.id, id);
+        assertEquals(loaded.name, "name");
+        assertEquals(loaded.count, 3);
+        assertEquals(loaded.other, "o");
+    }
+
+    @Test
+    public void testDecodePlanLookupsDoNotAllocate() {
+        DecodePlan plan = getMapper().map(DecodeOrder.class).get(0).getDecodePlan();
+        String[] names = {"_id", "n", "count", "other", "old", "unknown"};
+        Runnable lookups = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                for (int position = 0; position < names.length; position++) {
+                    plan.find(names[position], position);
+                }
+            }
+        };
+        lookups.run();
+
+        assertTrue(allocatedBy(lookups) < 1024);
+    }
+
     @Test
     public void testEmbeddedArrayElementHasNoClassname() {
         getMapper().map(ContainsEmbeddedArray.class);
@@ -693,6 +732,28 @@ public class TestMapping extends TestBase {
         assertNotNull(model.getProperty("morphia_reference"));
     }
 
+    @Test
+    public void testNonIdProperties() {
+        EntityModel model = getMapper().map(DecodeOrder.class).get(0);
+        PropertyModel idProperty = model.getIdProperty();
+
+        assertEquals(model.getProperties().size(), 4);
+        assertTrue(model.getProperties().contains(idProperty));
+        assertEquals(model.getNonIdProperties().size(), 3);
+        assertFalse(model.getNonIdProperties().contains(idProperty));
+        assertSame(model.getProperties(), model.getProperties());
+        assertThrows(UnsupportedOperationException.class, () -> model.getProperties().clear());
+
+        Runnable reads = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                model.getProperties();
+                model.getNonIdProperties();
+            }
+        };
+        reads.run();
+        assertTrue(allocatedBy(reads) < 1024);
+    }
+
     @Test
     public void testObjectIdKeyedMap() {
         getMapper().map(ContainsObjectIdKeyMap.class);
@@ -844,6 +905,19 @@ public class TestMapping extends TestBase {
         assertEquals(query.first(), expected, query.toString());
     }
 
+    /*
+     * Measures the bytes the current thread allocates while running some work.  Skips the test where the JVM can't count them.
+     */
+    private long allocatedBy(Runnable work) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+            "Thread allocation counting is not available");
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        work.run();
+        return threads.getThreadAllocatedBytes(thread) - before;
+    }
+
     private void validateField(List<PropertyModel> fields, String mapped, String java) {
         assertNotNull(fields.stream().filter(f -> f.getMappedName().equals(mapped)
                                                   && f.getName().equals(java)),
@@ -1065,6 +1139,17 @@ public class TestMapping extends TestBase {
         private ObjectId id;
     }
 
+    @Entity
+    private static class DecodeOrder {
+        @Id
+        private ObjectId id;
+        @Property("n")
+        private String name;
+        @AlsoLoad("old")
+        private int count;
+        private String other;
+    }
+
     private static class Foo1 implements Foo {
         private String s;
     }
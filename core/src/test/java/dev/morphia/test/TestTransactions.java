@@ -2,21 +2,34 @@ package dev.morphia.test;
 
 import com.mongodb.MongoQueryException;
 import com.mongodb.TransactionOptions;
+import com.mongodb.client.ClientSession;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Cacheable;
 import dev.morphia.experimental.MorphiaSession;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.User;
+import org.bson.types.ObjectId;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.mongodb.ClientSessionOptions.builder;
 import static com.mongodb.WriteConcern.MAJORITY;
+import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
 
 //@Tags(@Tag("transactions"))
 public class TestTransactions extends TestBase {
@@ -30,6 +43,95 @@ public class TestTransactions extends TestBase {
         getDs().find(User.class).findAndDelete();
     }
 
+    @Test
+    public void aggregate() {
+        Rectangle rectangle = new Rectangle(1, 1);
+        getDs().save(rectangle);
+
+        getDs().withTransaction((session) -> {
+            Rectangle loaded = session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+            assertSame(session.aggregate(Rectangle.class).execute(Rectangle.class).next(), loaded);
+            return null;
+        });
+    }
+
+    @Test
+    public void async() {
+        getDs().withTransaction((session) -> {
+            Rectangle rectangle = session.async().save(new Rectangle(1, 1)).join();
+            long count = session.async().count(session.find(Rectangle.class)).join();
+
+            assertEquals(count, 1);
+            assertNull(getDs().async().first(getDs().find(Rectangle.class)).join());
+            assertEquals(session.async().first(session.find(Rectangle.class)).join().getId(), rectangle.getId());
+            return null;
+        });
+
+        assertNotNull(getDs().find(Rectangle.class).first());
+    }
+
+    @Test
+    public void asyncSessionBound() {
+        getDs().withTransaction((session) -> {
+            session.save(new Rectangle(1, 1));
+
+            // handed to the session's own view rather than run concurrently on the shared one
+            List<CompletableFuture<Long>> counts = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                counts.add(getDs().async().count(session.find(Rectangle.class)));
+            }
+            for (CompletableFuture<Long> count : counts) {
+                assertEquals(count.join().longValue(), 1L);
+            }
+            assertEquals(getDs().async().find(getDs().find(Rectangle.class), new FindOptions().clientSession(session)).join().size(), 1);
+            assertNull(getDs().async().first(getDs().find(Rectangle.class)).join());
+            return null;
+        });
+
+        try (ClientSession session = getMongoClient().startSession()) {
+            assertThrows(IllegalArgumentException.class,
+                () -> getDs().async().count(getDs().find(Rectangle.class), new CountOptions().clientSession(session)));
+        }
+    }
+
+    @Test
+    public void bulkWrite() {
+        Rectangle rectangle = new Rectangle(1, 1);
+        getDs().save(rectangle);
+
+        getDs().withTransaction((session) -> {
+            Rectangle loaded = session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+            session.bulk()
+                   .update(session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).update(inc("width")))
+                   .execute();
+
+            Rectangle updated = session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+            assertNotSame(updated, loaded);
+            assertEquals(updated.getWidth(), 2D);
+
+            session.bulk().delete(updated).execute();
+            assertNull(session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first());
+            return null;
+        });
+    }
+
+    @Test
+    public void cachedEntities() {
+        getMapper().map(CachedRectangle.class);
+        CachedRectangle rectangle = new CachedRectangle(1);
+        getDs().save(rectangle);
+        assertEquals(getDs().find(CachedRectangle.class).filter(eq("_id", rectangle.id)).first().width, 1);
+
+        getDs().withTransaction((session) -> {
+            session.find(CachedRectangle.class).filter(eq("_id", rectangle.id)).update(inc("width")).execute();
+            // read outside of the transaction so the cache holds the value from before it again
+            assertEquals(getDs().find(CachedRectangle.class).filter(eq("_id", rectangle.id)).first().width, 1);
+            return null;
+        });
+
+        assertEquals(getDs().find(CachedRectangle.class).filter(eq("_id", rectangle.id)).first().width, 2);
+    }
+
     @Test
     public void delete() {
         Rectangle rectangle = new Rectangle(1, 1);
@@ -54,6 +156,44 @@ public class TestTransactions extends TestBase {
         assertNull(getDs().find(Rectangle.class).first());
     }
 
+    @Test
+    public void identityMap() {
+        Rectangle rectangle = new Rectangle(1, 1);
+        getDs().save(rectangle);
+
+        getDs().withTransaction((session) -> {
+            Rectangle loaded = session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+            assertNotSame(loaded, rectangle);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first(), loaded);
+            assertSame(session.find(Rectangle.class).iterator().toList().get(0), loaded);
+            assertNotSame(getDs().find(Rectangle.class).first(), loaded);
+
+            session.evict(loaded);
+            assertNotSame(session.find(Rectangle.class).first(), loaded);
+
+            return null;
+        });
+    }
+
+    @Test
+    public void identityMapAfterMerge() {
+        Rectangle merged = new Rectangle(1, 1);
+        Rectangle other = new Rectangle(2, 2);
+        getDs().save(List.of(merged, other));
+
+        getDs().withTransaction((session) -> {
+            Rectangle loaded = session.find(Rectangle.class).filter(eq("_id", other.getId())).first();
+
+            merged.setWidth(20);
+            session.merge(merged);
+
+            assertSame(session.find(Rectangle.class).filter(eq("_id", other.getId())).first(), loaded);
+            assertEquals(session.find(Rectangle.class).filter(eq("_id", merged.getId())).first().getWidth(), 20, 0.5);
+
+            return null;
+        });
+    }
+
     @Test
     public void insert() {
         Rectangle rectangle = new Rectangle(1, 1);
@@ -252,4 +392,18 @@ public class TestTransactions extends TestBase {
         assertEquals(getDs().find(Rectangle.class).first().getWidth(), rectangle.getWidth() + 13, 0.5);
     }
 
+    @Entity("cachedRectangles")
+    @Cacheable
+    private static class CachedRectangle {
+        @Id
+        private ObjectId id;
+        private int width;
+
+        CachedRectangle() {
+        }
+
+        CachedRectangle(int width) {
+            this.width = width;
+        }
+    }
 }
@@ -13,10 +13,12 @@
 
 package dev.morphia.test;
 
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.ModifyOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
@@ -27,6 +29,7 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaCursor;
+import dev.morphia.query.PreparedUpdate;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.Update;
@@ -35,6 +38,7 @@ import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.updates.CurrentDateOperator.TypeSpecification;
 import dev.morphia.test.models.Book;
 import dev.morphia.test.models.Circle;
+import dev.morphia.test.models.Hotel;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.TestEntity;
 import dev.morphia.test.models.User;
@@ -595,6 +599,45 @@ public class TestUpdateOperations extends TestBase {
         new PathTarget(getMapper(), DumbColl.class, "fromArray.$[element]").translatedPath();
     }
 
+    @Test
+    public void testPreparedUpdate() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(1, 20), new Rectangle(5, 20)));
+
+        PreparedUpdate<Rectangle> update = getDs().prepare(Rectangle.class, eq("width", Filters.param("width")))
+                                                  .update(inc("height", Filters.param("by")));
+        assertEquals(update.getParameterNames(), Set.of("width", "by"));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("width", 20);
+        values.put("by", 2);
+        assertUpdated(update.update(values).execute(new UpdateOptions().multi(true)), 2);
+        assertEquals(getDs().find(Rectangle.class).filter(eq("height", 3D)).count(), 1L);
+
+        values.put("width", 10);
+        values.put("by", 4);
+        Rectangle modified = update.modify(values).execute(new ModifyOptions().returnDocument(ReturnDocument.AFTER));
+        assertEquals(modified.getHeight(), 5D);
+
+        assertThrows(IllegalArgumentException.class, () -> update.update(Map.of("width", 20)));
+    }
+
+    @Test
+    public void testPreparedUpdateMapsValues() {
+        Hotel hotel = new Hotel();
+        hotel.setName("hotel");
+        hotel.setType(Hotel.Type.BUSINESS);
+        getDs().save(hotel);
+
+        PreparedUpdate<Hotel> update = getDs().prepare(Hotel.class, eq("name", Filters.param("name")))
+                                              .update(set("type", Filters.param("type")));
+        Update<Hotel> bound = update.update(Map.of("name", "hotel", "type", Hotel.Type.LEISURE));
+        assertThrows(IllegalStateException.class, () -> bound.add(set("stars", 4)));
+
+        assertUpdated(bound.execute(), 1);
+        assertEquals(getDs().find(Hotel.class).first().getType(), Hotel.Type.LEISURE);
+        assertEquals(getDs().find(Hotel.class).filter(eq("type", "LEISURE")).count(), 1L);
+    }
+
     @Test
     public void testPull() {
         DumbColl dumbColl = new DumbColl("ID");
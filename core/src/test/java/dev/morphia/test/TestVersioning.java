@@ -1,9 +1,12 @@
 package dev.morphia.test;
 
+import com.mongodb.WriteConcern;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.result.UpdateResult;
+import dev.morphia.BulkWriteException;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
 import dev.morphia.ModifyOptions;
 import dev.morphia.Morphia;
 import dev.morphia.UpdateOptions;
@@ -272,6 +275,60 @@ public class TestVersioning extends TestBase {
         assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
     }
 
+    @Test
+    public void testMultiSavesReportMismatches() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        VersionedType concurrent = getDs().find(VersionedType.class)
+                                          .filter(eq("_id", initial.get(1).getId()))
+                                          .first();
+        getDs().save(concurrent);
+
+        VersionMismatchException exception = Assert.expectThrows(VersionMismatchException.class,
+            () -> getDs().save(initial, new InsertManyOptions().ordered(false)));
+
+        assertEquals(exception.getEntities().size(), 1);
+        Assert.assertSame(exception.getEntities().get(0), initial.get(1));
+        assertEquals(initial.get(0).version, 2);
+        assertEquals(initial.get(1).version, 1);
+        assertEquals(initial.get(2).version, 2);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(1).getId())).first().version, 2);
+    }
+
+    @Test
+    public void testOrderedMultiSavesReportUnattempted() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        VersionedType concurrent = getDs().find(VersionedType.class)
+                                          .filter(eq("_id", initial.get(1).getId()))
+                                          .first();
+        getDs().save(concurrent);
+
+        VersionMismatchException exception = Assert.expectThrows(VersionMismatchException.class,
+            () -> getDs().save(initial, new InsertManyOptions().ordered(true)));
+
+        assertEquals(exception.getEntities(), List.of(initial.get(1), initial.get(2)));
+        assertEquals(initial.get(0).version, 2);
+        assertEquals(initial.get(1).version, 1);
+        assertEquals(initial.get(2).version, 1);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(2).getId())).first().version, 1);
+    }
+
+    @Test
+    public void testMultiSavesReportWriteConcernErrors() {
+        assumeTrue(isReplicaSet(), "An unsatisfiable write concern is only reported as such by a replica set");
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        assertThrows(BulkWriteException.class,
+            () -> getDs().save(initial, new InsertManyOptions().writeConcern(new WriteConcern(50))));
+    }
+
     @Test
     public void testPrimitive() {
         getMapper().map(Primitive.class);
@@ -37,6 +37,9 @@ import dev.morphia.test.aggregation.experimental.model.Book;
 import dev.morphia.test.aggregation.experimental.model.Inventory;
 import dev.morphia.test.aggregation.experimental.model.Order;
 import dev.morphia.test.aggregation.experimental.model.Sales;
+import dev.morphia.test.models.BlogImage;
+import dev.morphia.test.models.Jpg;
+import dev.morphia.test.models.Png;
 import dev.morphia.test.models.User;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -76,6 +79,7 @@ import static java.util.stream.Collectors.toList;
 import static org.bson.Document.parse;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings({"unused", "RedundantSuppression"})
 public class TestAggregation extends TestBase {
@@ -558,6 +562,31 @@ public class TestAggregation extends TestBase {
         assertNotNull(stats);
     }
 
+    @Test
+    public void testPolymorphicResults() {
+        getMapper().map(Martian.class, BlogImage.class, Png.class, Jpg.class);
+
+        for (String name : List.of("PNG", "JPG")) {
+            Martian martian = new Martian();
+            martian.name = name;
+            getDs().save(martian);
+        }
+
+        // the results carry a discriminator under the result type's own key rather than the source type's
+        List<BlogImage> images = getDs().aggregate(Martian.class)
+                                        .project(Projection.project()
+                                                           .include("type", field("name"))
+                                                           .include("content", field("name")))
+                                        .sort(sort().ascending("content"))
+                                        .execute(BlogImage.class)
+                                        .toList();
+
+        assertEquals(images.size(), 2);
+        assertTrue(images.get(0) instanceof Jpg);
+        assertTrue(images.get(1) instanceof Png);
+        assertEquals(images.get(1).content, "PNG");
+    }
+
     @Test
     public void testProjection() {
 
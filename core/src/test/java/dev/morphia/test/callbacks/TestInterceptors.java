@@ -2,11 +2,16 @@ package dev.morphia.test.callbacks;
 
 
 import com.mongodb.lang.NonNull;
+import dev.morphia.Datastore;
 import dev.morphia.EntityInterceptor;
+import dev.morphia.Morphia;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.test.TestBase;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -24,6 +29,63 @@ public class TestInterceptors extends TestBase {
         getDs().save(new E());
     }
 
+    @Test
+    public void testDocumentInterceptor() {
+        getMapper().map(E.class);
+        getMapper().addInterceptor(new DocumentInterceptor());
+
+        E e = getDs().save(new E());
+
+        Assert.assertEquals(getDocumentCollection(E.class).find().first().getString("stamp"), "stamped");
+        Assert.assertTrue(getDs().find(E.class).first().called);
+        Assert.assertNotNull(e.id);
+    }
+
+    @Test
+    public void testStreamingInterceptor() {
+        getMapper().map(E.class);
+        StreamingInterceptor interceptor = new StreamingInterceptor();
+        getMapper().addInterceptor(interceptor);
+
+        getDs().save(new E());
+
+        Assert.assertEquals(interceptor.persisted, 1);
+        Assert.assertTrue(getDs().find(E.class).first().called);
+        Assert.assertEquals(interceptor.loaded, 1);
+    }
+
+    @Test
+    public void testPostLoadDocument() {
+        getMapper().map(PostLoadDocument.class);
+        getMapper().addInterceptor(new StreamingInterceptor());
+
+        PostLoadDocument entity = new PostLoadDocument();
+        entity.name = "streamed";
+        getDs().save(entity);
+
+        PostLoadDocument loaded = getDs().find(PostLoadDocument.class).first();
+        Assert.assertEquals(loaded.name, "streamed");
+        Assert.assertEquals(loaded.loadedName, "streamed");
+    }
+
+    @Test
+    public void testUsesDocument() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME);
+        Mapper mapper = datastore.getMapper();
+        EntityModel e = mapper.map(E.class).get(0);
+        EntityModel postLoad = mapper.map(PostLoadDocument.class).get(0);
+        Assert.assertFalse(e.usesDocument(PrePersist.class));
+        Assert.assertTrue(postLoad.usesDocument(PostLoad.class));
+        Assert.assertFalse(postLoad.usesDocument(PrePersist.class));
+
+        mapper.addInterceptor(new StreamingInterceptor());
+        Assert.assertFalse(e.usesDocument(PrePersist.class));
+
+        mapper.addInterceptor(new DocumentInterceptor());
+        Assert.assertTrue(e.usesDocument(PrePersist.class));
+        Assert.assertTrue(postLoad.usesDocument(PrePersist.class));
+    }
+
     @Entity
     static class E {
         @Id
@@ -37,6 +99,54 @@ public class TestInterceptors extends TestBase {
         }
     }
 
+    @Entity
+    static class PostLoadDocument {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Transient
+        private String loadedName;
+
+        @PostLoad
+        void postLoad(Document document) {
+            loadedName = document.getString("name");
+        }
+    }
+
+    public static class DocumentInterceptor implements EntityInterceptor {
+        @Override
+        public void prePersist(Object ent, Document document, Datastore datastore) {
+            document.put("stamp", "stamped");
+        }
+    }
+
+    public static class StreamingInterceptor implements EntityInterceptor {
+        private int persisted;
+        private int loaded;
+
+        @Override
+        public void postLoad(Object ent, Document document, Datastore datastore) {
+            Assert.assertNull(document);
+            loaded++;
+        }
+
+        @Override
+        public void preLoad(Object ent, Document document, Datastore datastore) {
+            Assert.assertNull(document);
+        }
+
+        @Override
+        public void postPersist(Object ent, Document document, Datastore datastore) {
+            Assert.assertNull(document);
+            persisted++;
+        }
+
+        @Override
+        public boolean usesDocument() {
+            return false;
+        }
+    }
+
     public static class Interceptor implements EntityInterceptor {
         @Override
         public void prePersist(@NonNull Object ent, @NonNull Document document, @NonNull Mapper mapper) {
@@ -19,9 +19,11 @@ package dev.morphia.test.internal;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Property;
+import dev.morphia.internal.PathCache;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CityPopulation;
@@ -59,6 +61,32 @@ public class PathTargetTest extends TestBase {
         Assert.assertEquals(new PathTarget(mapper, entityModel, "listEmbeddedType.1").translatedPath(), "listEmbeddedType.1");
     }
 
+    @Test
+    public void cachedPaths() {
+        getMapper().map(State.class, CityPopulation.class);
+        Mapper mapper = getMapper();
+        PathCache cache = mapper.getPathCache();
+        int size = cache.size();
+
+        PathTarget first = new PathTarget(mapper, State.class, "biggestCity.population");
+        Assert.assertEquals(first.translatedPath(), "biggestCity.pop");
+        Assert.assertEquals(cache.size(), size + 1);
+
+        PathTarget second = new PathTarget(mapper, State.class, "biggestCity.population");
+        Assert.assertEquals(second.translatedPath(), "biggestCity.pop");
+        Assert.assertSame(second.getTarget(), first.getTarget());
+        Assert.assertEquals(cache.size(), size + 1);
+
+        Assert.assertEquals(new PathTarget(mapper, State.class, "biggestCity.population", false).translatedPath(), "biggestCity.pop");
+        Assert.assertEquals(cache.size(), size + 2);
+
+        Assert.assertThrows(ValidationException.class, () -> new PathTarget(mapper, State.class, "biggestCity.missing").translatedPath());
+        Assert.assertEquals(cache.size(), size + 2);
+
+        getMapper().map(FatherEntity.class);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
     @Test
     public void disableValidation() {
         getMapper().map(FatherEntity.class);
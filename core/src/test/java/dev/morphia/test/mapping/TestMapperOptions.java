@@ -9,7 +9,9 @@ import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MapperOptions.Builder;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.codec.VarHandleAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.test.TestBase;
@@ -188,6 +190,29 @@ public class TestMapperOptions extends TestBase {
         assertEquals(collectionName, "dummyentity", "lowercase");
     }
 
+    @Test
+    public void reflectiveAccess() {
+        PropertyModel names = getMapper().getEntityModel(HasList.class).getProperty("names");
+        assertFalse(names.getAccessor() instanceof VarHandleAccessor);
+
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder(getMapper().getOptions())
+                         .reflectiveAccess(false)
+                         .build());
+        names = datastore.getMapper().getEntityModel(HasList.class).getProperty("names");
+        assertTrue(names.getAccessor() instanceof VarHandleAccessor);
+
+        HasList hl = new HasList();
+        hl.names = List.of("one", "two");
+        for (Datastore ds : List.of(getDs(), datastore)) {
+            ds.save(hl);
+            HasList loaded = ds.find(HasList.class).first();
+            assertEquals(loaded.id, hl.id);
+            assertEquals(loaded.names, hl.names);
+            cleanup();
+        }
+    }
+
     private void shouldFindField(Datastore datastore, HasList hl, List<String> expected) {
         datastore.save(hl);
         final Document document = getDocumentCollection(HasList.class).find().first();
@@ -0,0 +1,107 @@
+package dev.morphia.test.mapping.codec;
+
+import com.mongodb.client.MongoCollection;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.mapping.codec.pojo.experimental.EntityCodecProcessor;
+import dev.morphia.test.TestBase;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestGeneratedCodecs extends TestBase {
+    private static final String BOOK = "package dev.morphia.test.generated;\n"
+                                       + "import dev.morphia.annotations.*;\n"
+                                       + "import org.bson.types.ObjectId;\n"
+                                       + "import java.util.List;\n"
+                                       + "@Entity(value = \"books\", useDiscriminator = false)\n"
+                                       + "public class Book {\n"
+                                       + "    @Id ObjectId id;\n"
+                                       + "    @Property(\"t\") @AlsoLoad(\"oldTitle\") String title;\n"
+                                       + "    int pages;\n"
+                                       + "    private double rating;\n"
+                                       + "    List<String> tags;\n"
+                                       + "    transient String ignored;\n"
+                                       + "}\n";
+
+    @Test
+    public void roundTrip() throws Exception {
+        withGeneratedCodecs(datastore -> {
+            Class<?> type = datastore.getMapper().getClassFromCollection("books");
+            assertEquals(datastore.getCodecRegistry().get(type).getClass().getName(),
+                "dev.morphia.test.generated.Book" + EntityCodecProcessor.SUFFIX);
+
+            MongoCollection<Document> collection = getDatabase().getCollection("books");
+            ObjectId id = new ObjectId();
+            Document original = new Document("_id", id)
+                                    .append("t", "Dune")
+                                    .append("pages", 412)
+                                    .append("rating", 4.5)
+                                    .append("tags", List.of("classic", "sci-fi"));
+            collection.insertOne(original);
+            collection.insertOne(new Document("_id", new ObjectId())
+                                     .append("oldTitle", "Hyperion")
+                                     .append("pages", 482));
+
+            Object book = datastore.find(type).filter(eq("_id", id)).first();
+            collection.deleteOne(new Document("_id", id));
+            datastore.save(book);
+            assertEquals(collection.find(new Document("_id", id)).first(), original);
+
+            Object renamed = datastore.find(type).filter(eq("pages", 482)).first();
+            datastore.save(renamed);
+            assertEquals(collection.find(new Document("pages", 482)).first().getString("t"), "Hyperion");
+        });
+    }
+
+    private Path compile() throws IOException {
+        Path dir = Files.createTempDirectory("generated-codecs");
+        Path source = dir.resolve("Book.java");
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        Files.writeString(source, BOOK);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            CompilationTask task = compiler.getTask(null, fileManager, null,
+                List.of("-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.toString(),
+                    "-processor", EntityCodecProcessor.class.getName()),
+                null, fileManager.getJavaFileObjects(source.toFile()));
+            assertTrue(task.call(), "The sample entity should compile");
+        }
+        return classes;
+    }
+
+    private void withGeneratedCodecs(DatastoreConsumer consumer) throws Exception {
+        Path classes = compile();
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME);
+            datastore.getMapper().map(loader.loadClass("dev.morphia.test.generated.Book"));
+            consumer.accept(datastore);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private interface DatastoreConsumer {
+        void accept(Datastore datastore) throws Exception;
+    }
+}
@@ -43,6 +43,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static dev.morphia.Morphia.createDatastore;
 import static dev.morphia.aggregation.experimental.stages.Lookup.lookup;
 import static dev.morphia.aggregation.experimental.stages.Unwind.unwind;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.in;
 import static java.util.Arrays.asList;
@@ -151,6 +152,88 @@ public class TestReferences extends ProxyTestBase {
                .first();
     }
 
+    @Test
+    public void testBatchedReferences() {
+        List<Ref> refs = List.of(new Ref("a"), new Ref("b"), new Ref("c"));
+        getDs().save(refs);
+        for (int i = 0; i < 5; i++) {
+            getDs().save(new Container(refs));
+        }
+
+        getDatabase().runCommand(new Document("profile", 2));
+        List<Container> containers = getDs().find(Container.class)
+                                            .iterator(new FindOptions().batchReferences(true))
+                                            .toList();
+        getDatabase().runCommand(new Document("profile", 0));
+
+        assertEquals(containers.size(), 5);
+        for (Container container : containers) {
+            assertEquals(container.getSingleRef(), refs.get(0));
+            assertEquals(container.getCollectionRef(), refs);
+            assertEquals(new ArrayList<>(container.getMapRef().values()), refs);
+        }
+
+        Document query = new Document("op", "query")
+                             .append("ns", getDs().getCollection(Ref.class).getNamespace().getFullName());
+        assertEquals(getDatabase().getCollection("system.profile").countDocuments(query), 1);
+    }
+
+    @Test
+    public void testPrefetch() {
+        checkForProxyTypes();
+
+        Author author = new Author("Jane Austen");
+        getDs().save(author);
+        getDs().save(List.of(new Book("Sense and Sensibility", author), new Book("Emma", author)));
+
+        getDatabase().runCommand(new Document("profile", 2));
+        List<Book> books = getDs().find(Book.class)
+                                  .prefetch("author")
+                                  .iterator()
+                                  .toList();
+        getDatabase().runCommand(new Document("profile", 0));
+
+        assertEquals(books.size(), 2);
+        for (Book book : books) {
+            assertTrue(book.author.isResolved());
+            assertEquals(book.author.get(), author);
+        }
+        Document query = new Document("op", "query")
+                             .append("ns", getDs().getCollection(Author.class).getNamespace().getFullName());
+        assertEquals(getDatabase().getCollection("system.profile").countDocuments(query), 1);
+
+        List<Ref> refs = List.of(new Ref("a"), new Ref("b"));
+        getDs().save(refs);
+        getDs().save(new Container(refs));
+        Container container = getDs().find(Container.class)
+                                     .prefetch("collectionRef")
+                                     .first();
+        assertEquals(container.getCollectionRef(), refs);
+        assertIsProxy(container.getSingleRef());
+        assertEquals(container.getSingleRef(), refs.get(0));
+    }
+
+    @Test
+    public void testBatchedReferencesWithSharedIds() {
+        getMapper().map(Labelled.class);
+        Ref ref = new Ref("a");
+        Label label = new Label("a", "first");
+        Label other = new Label("b", "second");
+        getDs().save(ref);
+        getDs().save(List.of(label, other));
+        getDs().save(new Labelled(ref, label, List.of(label, other)));
+
+        Labelled loaded = getDs().find(Labelled.class)
+                                 .iterator(new FindOptions().batchReferences(true))
+                                 .next();
+
+        assertEquals(loaded.ref, ref);
+        assertEquals(loaded.label.name, "first");
+        assertEquals(loaded.labels.size(), 2);
+        assertEquals(loaded.labels.get(0).name, "first");
+        assertEquals(loaded.labels.get(1).name, "second");
+    }
+
     @Test
     public final void testCallIdGetterWithoutFetching() {
         checkForProxyTypes();
@@ -187,6 +270,31 @@ public class TestReferences extends ProxyTestBase {
 
     }
 
+    @Test
+    public void testLazyProxyClassesAreShared() {
+        checkForProxyTypes();
+
+        for (String foo : List.of("first", "second")) {
+            ReferencedEntity reference = new ReferencedEntity();
+            reference.setFoo(foo);
+            getDs().save(reference);
+            RootEntity root = new RootEntity();
+            root.r = reference;
+            getDs().save(root);
+        }
+
+        List<RootEntity> loaded = getDs().find(RootEntity.class)
+                                         .iterator(new FindOptions().sort(ascending("_id")))
+                                         .toList();
+        ReferencedEntity first = loaded.get(0).r;
+        ReferencedEntity second = loaded.get(1).r;
+        assertIsProxy(first);
+        assertIsProxy(second);
+        assertSame(first.getClass(), second.getClass());
+        assertEquals(first.getFoo(), "first");
+        assertEquals(second.getFoo(), "second");
+    }
+
     @Test
     public void testComplexIds() {
         ComplexParent parent = new ComplexParent();
@@ -936,6 +1044,42 @@ public class TestReferences extends ProxyTestBase {
         }
     }
 
+    @Entity(value = "labels", useDiscriminator = false)
+    private static class Label {
+        @Id
+        private String id;
+        private String name;
+
+        Label() {
+        }
+
+        Label(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity(useDiscriminator = false)
+    private static class Labelled {
+        @Id
+        private ObjectId id;
+        @Reference
+        private Ref ref;
+        @Reference
+        private Label label;
+        @Reference
+        private List<Label> labels;
+
+        Labelled() {
+        }
+
+        Labelled(Ref ref, Label label, List<Label> labels) {
+            this.ref = ref;
+            this.label = label;
+            this.labels = labels;
+        }
+    }
+
     @Entity(value = "as", useDiscriminator = false)
     private static class HasIdOnly {
         @Reference(idOnly = true)
@@ -22,6 +22,9 @@ import dev.morphia.query.CountOptions;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.LegacyQueryFactory;
+import dev.morphia.query.MorphiaCursor;
+import dev.morphia.query.Page;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.ValidationException;
@@ -29,6 +32,7 @@ import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CustomId;
 import dev.morphia.test.models.FacebookUser;
+import dev.morphia.test.models.Hotel;
 import dev.morphia.test.models.Keys;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.Student;
@@ -40,16 +44,21 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Collation.builder;
 import static dev.morphia.query.Sort.ascending;
@@ -65,6 +74,7 @@ import static dev.morphia.query.experimental.filters.Filters.in;
 import static dev.morphia.query.experimental.filters.Filters.lt;
 import static dev.morphia.query.experimental.filters.Filters.ne;
 import static dev.morphia.query.experimental.filters.Filters.or;
+import static dev.morphia.query.experimental.filters.Filters.param;
 import static dev.morphia.query.experimental.filters.Filters.regex;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
@@ -79,6 +89,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -119,6 +130,11 @@ public class TestQuery extends TestBase {
                          .sum();
 
         assertTrue(sum > 0, sum + "");
+
+        // only the first batch has been read when the stream is opened
+        try (Stream<City> stream = getDs().find(City.class).stream(new FindOptions().batchSize(10))) {
+            assertEquals(stream.spliterator().estimateSize(), 10);
+        }
     }
 
     @Test
@@ -358,6 +374,33 @@ public class TestQuery extends TestBase {
         assertEquals(q.count(), 3);
     }
 
+    @Test
+    public void testCursorBatches() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+        Query<Rectangle> query = getDs().find(Rectangle.class);
+
+        MorphiaCursor<Rectangle> cursor = query.iterator(new FindOptions().batchSize(10));
+        List<Rectangle> first = cursor.nextBatch();
+        assertTrue(!first.isEmpty() && first.size() <= 10, "size: " + first.size());
+        cursor.close();
+
+        List<Integer> sizes = new ArrayList<>();
+        query.iterator(new FindOptions().batchSize(10))
+             .forEachBatch(4, batch -> sizes.add(batch.size()));
+        assertEquals(sizes.stream().mapToInt(Integer::intValue).sum(), 25);
+        assertTrue(sizes.stream().allMatch(size -> size <= 4), sizes.toString());
+
+        try (Stream<Rectangle> stream = query.stream(new FindOptions().batchSize(10).sort(ascending("height")))) {
+            assertEquals(stream.map(Rectangle::getHeight).collect(Collectors.toList()),
+                rectangles.stream().map(Rectangle::getHeight).collect(Collectors.toList()));
+        }
+        assertEquals(query.iterator(new FindOptions().batchSize(5)).stream().parallel().count(), 25);
+    }
+
     @Test
     public void testCommentsShowUpInLogs() {
         getDs().save(asList(new Pic("pic1"), new Pic("pic2"), new Pic("pic3"), new Pic("pic4")));
@@ -895,6 +938,147 @@ public class TestQuery extends TestBase {
                           .first());
     }
 
+    @Test
+    public void testPages() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(3, 8), new Rectangle(6, 10), new Rectangle(10, 10), new Rectangle(10, 1)));
+        Query<Rectangle> query = getDs().find(Rectangle.class).filter(gt("height", 1));
+
+        // ties on the width are broken by _id which follows the direction of the last sort
+        Page<Rectangle> first = query.page(new FindOptions().limit(3), descending("width"));
+        assertEquals(heights(first), List.of(10.0, 6.0, 3.0));
+        assertTrue(first.hasNext());
+
+        Page<Rectangle> second = first.next();
+        assertEquals(heights(second), List.of(10.0));
+        assertFalse(second.hasNext());
+        assertNull(second.getNextToken());
+
+        Page<Rectangle> resumed = getDs().find(Rectangle.class)
+                                         .filter(gt("height", 1))
+                                         .pageAfter(first.getNextToken(), new FindOptions().limit(3), descending("width"));
+        assertEquals(heights(resumed), List.of(10.0));
+        assertEquals(heights(query.pageAfter(first.getEntities().get(0), new FindOptions().limit(1), descending("width"))),
+            List.of(6.0));
+
+        assertThrows(IllegalArgumentException.class, () -> query.page(new FindOptions(), descending("width")));
+        assertThrows(IllegalArgumentException.class,
+            () -> query.pageAfter(first.getNextToken(), new FindOptions().limit(3), descending("width"), ascending("height")));
+    }
+
+    @Test
+    public void testPagesSkipLifecycleEvents() {
+        getDs().save(asList(new Pic("a"), new Pic("b"), new Pic("c")));
+        Query<Pic> query = getDs().find(Pic.class);
+
+        Page<Pic> first = query.page(new FindOptions().limit(1), ascending("name"));
+        Pic last = first.getEntities().get(0);
+        last.setPrePersist(false);
+        assertEquals(query.pageAfter(last, new FindOptions().limit(1), ascending("name")).getEntities().get(0).getName(), "b");
+        assertFalse(last.isPrePersist());
+
+        Page<Pic> second = first.next();
+        assertEquals(second.getEntities().get(0).getName(), "b");
+        assertTrue(second.hasNext());
+    }
+
+    @Test
+    public void testParallelStream() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 7, i));
+        }
+        getDs().save(rectangles);
+        Query<Rectangle> query = getDs().find(Rectangle.class).filter(gt("width", 49));
+
+        try (Stream<Rectangle> stream = query.parallelStream(new FindOptions(), 4)) {
+            assertTrue(stream.isParallel());
+            assertEquals(stream.map(Rectangle::getWidth).collect(Collectors.toSet()).size(), 150);
+        }
+        try (Stream<Rectangle> stream = query.parallelStream(new FindOptions(), "height", 3)) {
+            assertEquals(stream.count(), 150);
+        }
+        assertThrows(IllegalArgumentException.class, () -> query.parallelStream(new FindOptions(), 0));
+        assertThrows(IllegalArgumentException.class, () -> query.parallelStream(new FindOptions().limit(1), 4));
+        assertThrows(IllegalArgumentException.class, () -> query.parallelStream(new FindOptions().skip(1), 4));
+        assertThrows(IllegalArgumentException.class, () -> query.parallelStream(new FindOptions().sort(ascending("width")), 4));
+    }
+
+    @Test
+    public void testParallelStreamMixedTypes() {
+        getMapper().map(MixedKey.class);
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            documents.add(new Document("key", i % 3 == 0 ? (Object) (long) i : i).append("group", i % 2));
+        }
+        for (int i = 0; i < 30; i++) {
+            documents.add(new Document("key", "s" + i).append("group", i % 2));
+        }
+        for (int i = 0; i < 10; i++) {
+            documents.add(new Document("key", null).append("group", i % 2));
+            documents.add(new Document("group", i % 2));
+        }
+        getDocumentCollection(MixedKey.class).insertMany(documents);
+
+        try (Stream<MixedKey> stream = getDs().find(MixedKey.class).parallelStream(new FindOptions(), "key", 4)) {
+            List<ObjectId> ids = stream.map(key -> key.id).collect(Collectors.toList());
+            assertEquals(ids.size(), 110);
+            assertEquals(new HashSet<>(ids).size(), 110);
+        }
+        Query<MixedKey> half = getDs().find(MixedKey.class).filter(eq("group", 1));
+        try (Stream<MixedKey> stream = half.parallelStream(new FindOptions(), "key", 4)) {
+            assertEquals(stream.map(key -> key.id).collect(Collectors.toSet()).size(), 55);
+        }
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        PreparedQuery<Rectangle> query = getDs().prepare(Rectangle.class, gt("height", param("min")), lt("height", param("max")));
+        assertEquals(query.getParameterNames(), Set.of("min", "max"));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("min", 3);
+        values.put("max", 10);
+        assertEquals(query.bind(values).count(), 3);
+        values.put("max", 11);
+        assertEquals(query.bind(values).count(), 4);
+
+        // additional filters must not leak in to later executions
+        values.put("min", 0);
+        assertEquals(query.bind(values).filter(lt("width", 5)).count(), 2);
+        assertEquals(query.bind(values).count(), 5);
+
+        assertThrows(IllegalArgumentException.class, () -> query.bind("min", 3));
+        assertThrows(IllegalArgumentException.class, () -> query.bind("width", 3));
+    }
+
+    @Test
+    public void testPreparedQueryMapsValues() {
+        Pic first = new Pic("first");
+        Pic second = new Pic("second");
+        getDs().save(asList(first, second));
+        ContainsPic containsFirst = new ContainsPic();
+        containsFirst.pic = first;
+        ContainsPic containsSecond = new ContainsPic();
+        containsSecond.pic = second;
+        getDs().save(asList(containsFirst, containsSecond));
+
+        PreparedQuery<ContainsPic> byPic = getDs().prepare(ContainsPic.class, eq("pic", param("pic")));
+        assertEquals(byPic.bind("pic", second).first().id, containsSecond.id);
+
+        Hotel business = new Hotel();
+        business.setName("business");
+        business.setType(Hotel.Type.BUSINESS);
+        Hotel leisure = new Hotel();
+        leisure.setName("leisure");
+        leisure.setType(Hotel.Type.LEISURE);
+        getDs().save(asList(business, leisure));
+
+        PreparedQuery<Hotel> byType = getDs().prepare(Hotel.class, eq("type", param("type")));
+        assertEquals(byType.bind("type", Hotel.Type.LEISURE).first().getName(), "leisure");
+    }
+
     @Test
     public void testProject() {
         getDs().save(new ContainsRenamedFields("Frank", "Zappa"));
@@ -1095,6 +1279,57 @@ public class TestQuery extends TestBase {
         assertNotNull(getDs().find(HasPhotoReference.class).filter(eq("photo.keywords", "foo")).first(limit));
     }
 
+    @Test
+    public void testReadAhead() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> read = getDs().find(Rectangle.class)
+                                      .iterator(new FindOptions()
+                                                    .sort(ascending("height"))
+                                                    .batchSize(10)
+                                                    .readAhead(2))
+                                      .toList();
+        assertEquals(read, rectangles);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class)
+                                                      .iterator(new FindOptions()
+                                                                    .batchSize(10)
+                                                                    .readAhead(1)
+                                                                    .readAheadExecutor(executor))) {
+            assertNotNull(cursor.next());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testReadAheadAbandoned() throws InterruptedException {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        assertNotNull(getDs().find(Rectangle.class)
+                             .iterator(new FindOptions()
+                                           .batchSize(10)
+                                           .readAhead(1)
+                                           .readAheadExecutor(executor))
+                             .next());
+        executor.shutdown();
+        // the cursor was never closed so the background task only stops once it has been collected
+        for (int i = 0; i < 50 && !executor.awaitTermination(100, TimeUnit.MILLISECONDS); i++) {
+            System.gc();
+        }
+        assertTrue(executor.isTerminated());
+    }
+
     @Test
     public void testRenamedFieldQuery() {
         getDs().save(new ContainsRenamedFields("Scott", "Bakula"));
@@ -1313,6 +1548,12 @@ public class TestQuery extends TestBase {
         getDatabase().runCommand(new Document("profile", 2).append("slowms", 0));
     }
 
+    private List<Double> heights(Page<Rectangle> page) {
+        return page.getEntities().stream()
+                   .map(Rectangle::getHeight)
+                   .collect(Collectors.toList());
+    }
+
     @Entity
     public interface User {
     }
@@ -1487,6 +1728,14 @@ public class TestQuery extends TestBase {
         private ObjectId value;
     }
 
+    @Entity(value = "mixed", useDiscriminator = false)
+    private static class MixedKey {
+        @Id
+        private ObjectId id;
+        private Object key;
+        private int group;
+    }
+
     @Entity
     public static class Keyword {
         private String keyword;
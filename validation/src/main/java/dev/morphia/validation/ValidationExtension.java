@@ -35,4 +35,9 @@ public class ValidationExtension implements EntityInterceptor {
             throw new VerboseJSR303ConstraintViolationException(validate);
         }
     }
+
+    @Override
+    public boolean usesDocument() {
+        return false;
+    }
 }